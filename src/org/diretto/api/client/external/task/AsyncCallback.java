@@ -0,0 +1,28 @@
+package org.diretto.api.client.external.task;
+
+/**
+ * This interface represents an {@code AsyncCallback}. <br/><br/>
+ * 
+ * An {@code AsyncCallback} is notified as soon as an operation of the
+ * {@link AsyncTaskService} has been completed.
+ * 
+ * @author Tobias Schlecht
+ * 
+ * @param <V> The result type of the operation
+ */
+public interface AsyncCallback<V>
+{
+	/**
+	 * Is invoked if the operation has been completed successfully.
+	 * 
+	 * @param result The result of the operation
+	 */
+	void onSuccess(V result);
+
+	/**
+	 * Is invoked if the operation has failed or has been cancelled.
+	 * 
+	 * @param throwable The cause of the failure
+	 */
+	void onFailure(Throwable throwable);
+}
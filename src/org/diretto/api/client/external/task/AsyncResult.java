@@ -0,0 +1,203 @@
+package org.diretto.api.client.external.task;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An {@code AsyncResult} is a {@link Future} which is completed explicitly by
+ * the last step of an asynchronous operation. It notifies the corresponding
+ * {@link AsyncCallback} as soon as it is completed.
+ * 
+ * @author Tobias Schlecht
+ * 
+ * @param <V> The result type
+ */
+final class AsyncResult<V> implements Future<V>
+{
+	private final AsyncCallback<V> callback;
+	private final CountDownLatch latch = new CountDownLatch(1);
+
+	private boolean done = false;
+	private boolean cancelled = false;
+	private V result = null;
+	private Throwable failure = null;
+	private Thread runner = null;
+
+	/**
+	 * Constructs an {@link AsyncResult}.
+	 * 
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 */
+	AsyncResult(AsyncCallback<V> callback)
+	{
+		this.callback = callback;
+	}
+
+	/**
+	 * Completes the operation successfully with the given result. If the
+	 * operation has already been completed, the invocation has no effect.
+	 * 
+	 * @param result The result
+	 */
+	void setResult(V result)
+	{
+		synchronized(this)
+		{
+			if(done)
+			{
+				return;
+			}
+
+			this.result = result;
+			done = true;
+		}
+
+		latch.countDown();
+
+		if(callback != null)
+		{
+			callback.onSuccess(result);
+		}
+	}
+
+	/**
+	 * Completes the operation with the given failure. If the operation has
+	 * already been completed, the invocation has no effect.
+	 * 
+	 * @param failure The cause of the failure
+	 */
+	void setFailure(Throwable failure)
+	{
+		synchronized(this)
+		{
+			if(done)
+			{
+				return;
+			}
+
+			this.failure = failure;
+			done = true;
+		}
+
+		latch.countDown();
+
+		if(callback != null)
+		{
+			callback.onFailure(failure);
+		}
+	}
+
+	/**
+	 * Marks the current {@link Thread} as the executing {@code Thread} of the
+	 * operation, so that it can be interrupted by {@link #cancel(boolean)}.
+	 * 
+	 * @return {@code true} if the operation should be executed; {@code false}
+	 *         if it has already been completed
+	 */
+	synchronized boolean startRunning()
+	{
+		if(done)
+		{
+			return false;
+		}
+
+		runner = Thread.currentThread();
+
+		return true;
+	}
+
+	/**
+	 * Removes the mark of the executing {@link Thread}. Afterwards the
+	 * {@code Thread} will not be interrupted by {@link #cancel(boolean)}
+	 * anymore.
+	 */
+	synchronized void stopRunning()
+	{
+		runner = null;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning)
+	{
+		synchronized(this)
+		{
+			if(done)
+			{
+				return false;
+			}
+
+			cancelled = true;
+			done = true;
+
+			if(mayInterruptIfRunning && runner != null)
+			{
+				runner.interrupt();
+			}
+		}
+
+		latch.countDown();
+
+		if(callback != null)
+		{
+			callback.onFailure(new CancellationException());
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean isCancelled()
+	{
+		return cancelled;
+	}
+
+	@Override
+	public synchronized boolean isDone()
+	{
+		return done;
+	}
+
+	@Override
+	public V get() throws InterruptedException, ExecutionException
+	{
+		latch.await();
+
+		return report();
+	}
+
+	@Override
+	public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		if(!latch.await(timeout, unit))
+		{
+			throw new TimeoutException();
+		}
+
+		return report();
+	}
+
+	/**
+	 * Returns the result of the completed operation or throws the
+	 * corresponding exception.
+	 * 
+	 * @return The result
+	 * @throws ExecutionException
+	 */
+	private synchronized V report() throws ExecutionException
+	{
+		if(cancelled)
+		{
+			throw new CancellationException();
+		}
+		else if(failure != null)
+		{
+			throw new ExecutionException(failure);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,135 @@
+package org.diretto.api.client.external.task;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.diretto.api.client.base.data.BoundingBox;
+import org.diretto.api.client.base.data.ResultSet;
+import org.diretto.api.client.base.data.TimeRange;
+import org.diretto.api.client.base.types.OrderType;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+import org.joda.time.DateTime;
+
+/**
+ * This interface represents an {@code AsyncTaskService}. <br/><br/>
+ * 
+ * The {@code AsyncTaskService} provides the read operations of the
+ * {@link TaskService} in a non-blocking manner. Every method returns
+ * immediately with a {@link Future}. The work itself is executed by the
+ * {@link Executor} which has been delivered to
+ * {@link DataManager#getAsyncTaskService(Executor)}. The operations return the
+ * same results as the corresponding methods of the {@link DataManager}. A
+ * query with tags is executed in separate steps (resolution of the unknown
+ * tags, dispatch of the query and loading of the {@code Task}s), each of which
+ * is handed over to the {@code Executor} on its own, so that no {@code Thread}
+ * waits between the steps. <br/><br/>
+ * 
+ * <i>Annotation:</i> The optional {@link AsyncCallback} is notified as soon
+ * as the result is available. It is invoked by the {@code Thread} which has
+ * completed the operation. {@link Future#cancel(boolean)} with
+ * {@code mayInterruptIfRunning} set to {@code true} interrupts the executing
+ * {@code Thread}. An API request which is already in progress is not aborted
+ * by the interruption, but its result is discarded.
+ * 
+ * @author Tobias Schlecht
+ */
+public interface AsyncTaskService
+{
+	/**
+	 * Asynchronous counterpart of
+	 * {@link DataManager#getTask(TaskID, boolean, boolean)}.
+	 * 
+	 * @param taskID A {@code TaskID}
+	 * @param loadCompletely {@code true} if the complete {@code Task} and all
+	 *        of its sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task} will be
+	 *        loaded for the time being
+	 * @param forceAPICall {@code true} if the {@code Task} should be loaded
+	 *        directly from the API; {@code false} if the {@code Task} can be
+	 *        loaded from the {@code Cache}
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 * @return A {@code Future} of the {@code Task}
+	 */
+	Future<Task> getTask(TaskID taskID, boolean loadCompletely, boolean forceAPICall, AsyncCallback<Task> callback);
+
+	/**
+	 * Asynchronous counterpart of
+	 * {@link DataManager#getTasks(List, BoundingBox, TimeRange, boolean)}.
+	 * 
+	 * @param tags A {@code List} of tags in {@code String} representation
+	 * @param boundingBox A {@code BoundingBox}
+	 * @param timeRange A {@code TimeRange}
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 * @return A {@code Future} of the {@code ResultSet} with the {@code Task}s
+	 */
+	Future<ResultSet<TaskID, Task>> getTasks(List<String> tags, BoundingBox boundingBox, TimeRange timeRange, boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback);
+
+	/**
+	 * Asynchronous counterpart of
+	 * {@link DataManager#getTasks(OrderType, BoundingBox, boolean)}.
+	 * 
+	 * @param orderType An {@code OrderType}
+	 * @param boundingBox A {@code BoundingBox}
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 * @return A {@code Future} of the {@code ResultSet} with the {@code Task}s
+	 */
+	Future<ResultSet<TaskID, Task>> getTasks(OrderType orderType, BoundingBox boundingBox, boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback);
+
+	/**
+	 * Asynchronous counterpart of
+	 * {@link DataManager#getTasks(OrderType, double, double, boolean)}.
+	 * 
+	 * @param orderType An {@code OrderType}
+	 * @param locationLatitude The latitude of the location in degrees
+	 * @param locationLongitude The longitude of the location in degrees
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 * @return A {@code Future} of the {@code ResultSet} with the {@code Task}s
+	 */
+	Future<ResultSet<TaskID, Task>> getTasks(OrderType orderType, double locationLatitude, double locationLongitude, boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback);
+
+	/**
+	 * Asynchronous counterpart of
+	 * {@link DataManager#getTasksAfter(DateTime, boolean)}.
+	 * 
+	 * @param time The {@code DateTime} after which the {@code Task}s should be
+	 *        returned
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 * @return A {@code Future} of the {@code ResultSet} with the {@code Task}s
+	 */
+	Future<ResultSet<TaskID, Task>> getTasksAfter(DateTime time, boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback);
+
+	/**
+	 * Asynchronous counterpart of
+	 * {@link DataManager#getTasksByIDs(List, boolean, boolean)}.
+	 * 
+	 * @param taskIDs A {@code List} of {@code TaskID}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param forceAPICall {@code true} if the {@code Task}s should be loaded
+	 *        directly from the API; {@code false} if the {@code Task}s can be
+	 *        loaded from the {@code Cache}
+	 * @param callback An {@code AsyncCallback} or {@code null}
+	 * @return A {@code Future} of the {@code ResultSet} with the {@code Task}s
+	 */
+	Future<ResultSet<TaskID, Task>> getTasksByIDs(List<TaskID> taskIDs, boolean loadCompletely, boolean forceAPICall, AsyncCallback<ResultSet<TaskID, Task>> callback);
+}
@@ -0,0 +1,350 @@
+package org.diretto.api.client.external.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.diretto.api.client.base.data.BoundingBox;
+import org.diretto.api.client.base.data.ResultSet;
+import org.diretto.api.client.base.data.ResultSetImpl;
+import org.diretto.api.client.base.data.TimeRange;
+import org.diretto.api.client.base.exceptions.NoResultsException;
+import org.diretto.api.client.base.types.OrderType;
+import org.diretto.api.client.external.task.binding.resources.PageResource;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+import org.joda.time.DateTime;
+
+/**
+ * This class is the implementation class of the {@link AsyncTaskService}
+ * interface.
+ * 
+ * @author Tobias Schlecht
+ */
+final class AsyncTaskServiceImpl implements AsyncTaskService
+{
+	private final DataManagerImpl dataManager;
+	private final Executor executor;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i>
+	 * {@link #getInstance(DataManagerImpl, Executor)} returns the instances of
+	 * the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @param executor The {@code Executor} which executes the operations
+	 */
+	private AsyncTaskServiceImpl(DataManagerImpl dataManager, Executor executor)
+	{
+		this.dataManager = dataManager;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns an {@link AsyncTaskService} instance for the corresponding
+	 * {@link DataManager} and the given {@link Executor}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @param executor The {@code Executor} which executes the operations
+	 * @return An {@code AsyncTaskService} instance
+	 */
+	static AsyncTaskService getInstance(DataManagerImpl dataManager, Executor executor)
+	{
+		if(dataManager == null || executor == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return new AsyncTaskServiceImpl(dataManager, executor);
+	}
+
+	@Override
+	public Future<Task> getTask(final TaskID taskID, final boolean loadCompletely, final boolean forceAPICall, AsyncCallback<Task> callback)
+	{
+		final AsyncResult<Task> asyncResult = new AsyncResult<Task>(callback);
+
+		executor.execute(new Step<Task>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				asyncResult.setResult(dataManager.getTask(taskID, loadCompletely, forceAPICall));
+			}
+		});
+
+		return asyncResult;
+	}
+
+	@Override
+	public Future<ResultSet<TaskID, Task>> getTasks(final List<String> tags, final BoundingBox boundingBox, final TimeRange timeRange, final boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback)
+	{
+		if(tags == null || boundingBox == null || timeRange == null)
+		{
+			throw new NullPointerException();
+		}
+
+		AsyncResult<ResultSet<TaskID, Task>> asyncResult = new AsyncResult<ResultSet<TaskID, Task>>(callback);
+
+		TaskIndex taskIndex = dataManager.getTaskIndex();
+
+		if(tags.size() == 0 && taskIndex.isComplete())
+		{
+			loadTasks(taskIndex.getTaskIDs(boundingBox, timeRange), loadCompletely, asyncResult);
+		}
+		else
+		{
+			resolveTags(tags, boundingBox, timeRange, loadCompletely, asyncResult);
+		}
+
+		return asyncResult;
+	}
+
+	@Override
+	public Future<ResultSet<TaskID, Task>> getTasks(final OrderType orderType, final BoundingBox boundingBox, final boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback)
+	{
+		final AsyncResult<ResultSet<TaskID, Task>> asyncResult = new AsyncResult<ResultSet<TaskID, Task>>(callback);
+
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				asyncResult.setResult(dataManager.getTasks(orderType, boundingBox, loadCompletely));
+			}
+		});
+
+		return asyncResult;
+	}
+
+	@Override
+	public Future<ResultSet<TaskID, Task>> getTasks(final OrderType orderType, final double locationLatitude, final double locationLongitude, final boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback)
+	{
+		final AsyncResult<ResultSet<TaskID, Task>> asyncResult = new AsyncResult<ResultSet<TaskID, Task>>(callback);
+
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				asyncResult.setResult(dataManager.getTasks(orderType, locationLatitude, locationLongitude, loadCompletely));
+			}
+		});
+
+		return asyncResult;
+	}
+
+	@Override
+	public Future<ResultSet<TaskID, Task>> getTasksAfter(final DateTime time, final boolean loadCompletely, AsyncCallback<ResultSet<TaskID, Task>> callback)
+	{
+		final AsyncResult<ResultSet<TaskID, Task>> asyncResult = new AsyncResult<ResultSet<TaskID, Task>>(callback);
+
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				asyncResult.setResult(dataManager.getTasksAfter(time, loadCompletely));
+			}
+		});
+
+		return asyncResult;
+	}
+
+	@Override
+	public Future<ResultSet<TaskID, Task>> getTasksByIDs(final List<TaskID> taskIDs, final boolean loadCompletely, final boolean forceAPICall, AsyncCallback<ResultSet<TaskID, Task>> callback)
+	{
+		final AsyncResult<ResultSet<TaskID, Task>> asyncResult = new AsyncResult<ResultSet<TaskID, Task>>(callback);
+
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				asyncResult.setResult(dataManager.getTasksByIDs(taskIDs, loadCompletely, forceAPICall));
+			}
+		});
+
+		return asyncResult;
+	}
+
+	/**
+	 * Resolves the tags of a query which have not been resolved so far and
+	 * dispatches the query afterwards. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the first step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean, AsyncCallback)}
+	 * in case the query cannot be answered by the {@link TaskIndex}.
+	 * 
+	 * @param tags A {@code List} of tags in {@code String} representation
+	 * @param boundingBox A {@code BoundingBox}
+	 * @param timeRange A {@code TimeRange}
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @param asyncResult The {@code AsyncResult} of the operation
+	 */
+	private void resolveTags(final List<String> tags, final BoundingBox boundingBox, final TimeRange timeRange, final boolean loadCompletely, final AsyncResult<ResultSet<TaskID, Task>> asyncResult)
+	{
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				dispatchQuery(dataManager.getDataFactory().resolveTagIDs(tags), boundingBox, timeRange, loadCompletely, asyncResult);
+			}
+		});
+	}
+
+	/**
+	 * Dispatches a query and creates the {@link ResultSet} from its first
+	 * result page afterwards. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the second step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean, AsyncCallback)}.
+	 * 
+	 * @param tagIDs The {@code URL}s of the base tags in {@code String}
+	 *        representation
+	 * @param boundingBox A {@code BoundingBox}
+	 * @param timeRange A {@code TimeRange}
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @param asyncResult The {@code AsyncResult} of the operation
+	 */
+	private void dispatchQuery(final ArrayList<String> tagIDs, final BoundingBox boundingBox, final TimeRange timeRange, final boolean loadCompletely, final AsyncResult<ResultSet<TaskID, Task>> asyncResult)
+	{
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				PageResource pageResource;
+
+				try
+				{
+					pageResource = dataManager.getDataFactory().executeQuery(tagIDs, boundingBox, timeRange);
+				}
+				catch(NoResultsException e)
+				{
+					asyncResult.setResult(dataManager.getDataFactory().createEmptyQueryTaskResultSet(loadCompletely));
+					return;
+				}
+
+				createResultSet(pageResource, loadCompletely, asyncResult);
+			}
+		});
+	}
+
+	/**
+	 * Loads the {@link Task}s of the first result page of a query and
+	 * completes the operation with the resulting {@link ResultSet}.
+	 * <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the third step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean, AsyncCallback)}.
+	 * 
+	 * @param pageResource The {@code PageResource} of the query result
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @param asyncResult The {@code AsyncResult} of the operation
+	 */
+	private void createResultSet(final PageResource pageResource, final boolean loadCompletely, final AsyncResult<ResultSet<TaskID, Task>> asyncResult)
+	{
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				ResultSetImpl<TaskID, Task> resultSet = dataManager.getDataFactory().createQueryTaskResultSet(pageResource, loadCompletely);
+
+				dataManager.putTasksIntoCache(resultSet);
+				dataManager.getPrefetchManager().startPrefetching(resultSet);
+
+				asyncResult.setResult(resultSet);
+			}
+		});
+	}
+
+	/**
+	 * Loads the {@link Task}s with the given {@link TaskID}s and completes the
+	 * operation with the resulting {@link ResultSet}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the only step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean, AsyncCallback)}
+	 * in case the query is answered by the complete {@link TaskIndex}.
+	 * 
+	 * @param taskIDs The {@code TaskID}s of the {@link TaskIndex}
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @param asyncResult The {@code AsyncResult} of the operation
+	 */
+	private void loadTasks(final List<TaskID> taskIDs, final boolean loadCompletely, final AsyncResult<ResultSet<TaskID, Task>> asyncResult)
+	{
+		executor.execute(new Step<ResultSet<TaskID, Task>>(asyncResult)
+		{
+			@Override
+			void execute()
+			{
+				asyncResult.setResult(dataManager.getTasksByIDs(taskIDs, loadCompletely, false));
+			}
+		});
+	}
+
+	/**
+	 * A {@code Step} executes an asynchronous operation or one part of it. It
+	 * is skipped if the operation has already been cancelled and it completes
+	 * the corresponding {@link AsyncResult} with a failure if it throws an
+	 * exception. While it is running, it can be interrupted by the
+	 * cancellation of the operation.
+	 * 
+	 * @param <V> The result type of the operation
+	 */
+	private abstract static class Step<V> implements Runnable
+	{
+		private final AsyncResult<V> asyncResult;
+
+		/**
+		 * Constructs a {@link Step}.
+		 * 
+		 * @param asyncResult The {@code AsyncResult} of the operation
+		 */
+		Step(AsyncResult<V> asyncResult)
+		{
+			this.asyncResult = asyncResult;
+		}
+
+		@Override
+		public final void run()
+		{
+			if(!asyncResult.startRunning())
+			{
+				return;
+			}
+
+			try
+			{
+				execute();
+			}
+			catch(Throwable throwable)
+			{
+				asyncResult.setFailure(throwable);
+			}
+			finally
+			{
+				asyncResult.stopRunning();
+
+				if(asyncResult.isCancelled())
+				{
+					// The interruption must not affect the next work of the Thread.
+					Thread.interrupted();
+				}
+			}
+		}
+
+		/**
+		 * Executes the {@code Step}.
+		 */
+		abstract void execute();
+	}
+}
@@ -1,6 +1,7 @@
 package org.diretto.api.client.external.task;
 
 import java.net.URL;
+import java.util.logging.Logger;
 
 import org.apache.commons.configuration.ConfigurationUtils;
 import org.apache.commons.configuration.XMLConfiguration;
@@ -17,12 +18,17 @@ final class CacheManager
 {
 	// See also: http://ehcache.org/documentation
 
+	private static final Logger LOGGER = Logger.getLogger(CacheManager.class.getName());
+
 	private final boolean cacheActivated;
+	private final boolean tagCacheActivated;
 	private final URL cacheConfigFile;
 	private final String cacheName;
+	private final String tagCacheName;
 
 	private final net.sf.ehcache.CacheManager cacheManager;
 	private final Cache cache;
+	private final Cache tagCache;
 
 	/**
 	 * The constructor is {@code private} to have strict control what instances
@@ -35,23 +41,42 @@ final class CacheManager
 		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
 
 		cacheActivated = xmlConfiguration.getBoolean("cache/cache-activated");
+		tagCacheActivated = xmlConfiguration.getBoolean("tag-cache/tag-cache-activated", true);
 
-		if(cacheActivated)
+		if(cacheActivated || tagCacheActivated)
 		{
 			cacheConfigFile = ConfigurationUtils.locate(null, xmlConfiguration.getString("cache/cache-config-file"));
-			cacheName = xmlConfiguration.getString("cache/cache-name");
 
 			cacheManager = net.sf.ehcache.CacheManager.create(cacheConfigFile);
-			cache = cacheManager.getCache(cacheName);
 		}
 		else
 		{
 			cacheConfigFile = null;
-			cacheName = null;
 
 			cacheManager = null;
+		}
+
+		if(cacheActivated)
+		{
+			cacheName = xmlConfiguration.getString("cache/cache-name");
+			cache = cacheManager.getCache(cacheName);
+		}
+		else
+		{
+			cacheName = null;
 			cache = null;
 		}
+
+		if(tagCacheActivated)
+		{
+			tagCacheName = xmlConfiguration.getString("tag-cache/tag-cache-name", "TagCache");
+			tagCache = getOrAddCache(tagCacheName);
+		}
+		else
+		{
+			tagCacheName = null;
+			tagCache = null;
+		}
 	}
 
 	/**
@@ -83,6 +108,25 @@ final class CacheManager
 		}
 	}
 
+	/**
+	 * Returns the tag {@link Cache}, which maps the tags to the {@code URL}s of
+	 * their base tags. The tag {@code Cache} is shared by all
+	 * {@link DataManager}s.
+	 * 
+	 * @return The tag {@code Cache}
+	 */
+	Cache getTagCache()
+	{
+		if(tagCacheActivated)
+		{
+			return tagCache;
+		}
+		else
+		{
+			throw new CacheNotActivatedException();
+		}
+	}
+
 	/**
 	 * Determines if the {@code Cache} is activated.
 	 * 
@@ -93,4 +137,39 @@ final class CacheManager
 	{
 		return cacheActivated;
 	}
+
+	/**
+	 * Determines if the tag {@code Cache} is activated.
+	 * 
+	 * @return {@code true} if the tag {@code Cache} is activated; otherwise
+	 *         {@code false}
+	 */
+	boolean isTagCacheActivated()
+	{
+		return tagCacheActivated;
+	}
+
+	/**
+	 * Returns the {@link Cache} with the given name. If the cache config file
+	 * does not contain a {@code Cache} with this name, it is added with the
+	 * default configuration of the cache config file.
+	 * 
+	 * @param name The name of the {@code Cache}
+	 * @return The {@code Cache}
+	 */
+	private Cache getOrAddCache(String name)
+	{
+		Cache namedCache = cacheManager.getCache(name);
+
+		if(namedCache == null)
+		{
+			LOGGER.warning("[TaskService CacheManager] The cache config file " + cacheConfigFile + " does not contain the cache " + name + ". The default configuration is used instead.");
+
+			cacheManager.addCache(name);
+
+			namedCache = cacheManager.getCache(name);
+		}
+
+		return namedCache;
+	}
 }
@@ -0,0 +1,588 @@
+package org.diretto.api.client.external.task;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.base.characteristic.Cachable;
+import org.diretto.api.client.base.data.ResultSet;
+import org.diretto.api.client.base.data.ResultSetFactory;
+import org.diretto.api.client.base.data.Votes;
+import org.diretto.api.client.base.entities.Entity;
+import org.diretto.api.client.base.entities.EntityID;
+import org.diretto.api.client.base.entities.SubEntityID;
+import org.diretto.api.client.base.types.LoadType;
+import org.diretto.api.client.base.types.VoteType;
+import org.diretto.api.client.external.task.entities.Submission;
+import org.diretto.api.client.external.task.entities.SubmissionBuilder;
+import org.diretto.api.client.external.task.entities.SubmissionID;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskBuilder;
+import org.diretto.api.client.external.task.entities.TaskID;
+import org.diretto.api.client.main.core.entities.Comment;
+import org.diretto.api.client.main.core.entities.CommentBuilder;
+import org.diretto.api.client.main.core.entities.CommentID;
+import org.diretto.api.client.main.core.entities.DocumentID;
+import org.diretto.api.client.main.core.entities.Tag;
+import org.diretto.api.client.main.core.entities.TagBuilder;
+import org.diretto.api.client.main.core.entities.TagID;
+import org.diretto.api.client.session.UserSession;
+import org.joda.time.DateTime;
+
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.Element;
+
+/**
+ * The {@code CacheRefresher} is responsible for the {@code Cache} entries of
+ * {@link Task}s which have been changed by a write operation. Instead of
+ * reloading a changed {@code Task}, its {@code Cache} entry is patched with
+ * the data which are known locally: the returned ID and the content of a new
+ * {@link Comment}, {@link Submission} or {@link Tag}, and the new
+ * {@link VoteType} of a vote. <br/><br/>
+ * 
+ * <i>Annotation:</i> Changes which cannot be patched invalidate the
+ * {@code Cache} entry instead, so that the next read loads the current data.
+ * This applies to votes for which the previous {@code VoteType} of the
+ * {@code User} is not known and to the votes and {@code Tag}s of
+ * {@code Comment}s and {@code Tag}s. If a refresh delay is configured, the
+ * invalidated {@code Task}s are additionally collected and reloaded after
+ * the delay in one batch, so that several writes to the same {@code Task}
+ * only cause one reload. A {@code Task} is reloaded completely if its
+ * invalidated {@code Cache} entry has been completely loaded; otherwise only
+ * its meta data are reloaded.
+ * 
+ * @author Tobias Schlecht
+ */
+final class CacheRefresher
+{
+	private static final Logger LOGGER = Logger.getLogger(CacheRefresher.class.getName());
+
+	private static final int MAX_KNOWN_USER_VOTES = 1000;
+
+	private final DataManagerImpl dataManager;
+	private final Cache cache;
+
+	private final long refreshDelay;
+
+	private final Map<TaskID, Boolean> pendingTasks = new LinkedHashMap<TaskID, Boolean>();
+	private boolean refreshScheduled = false;
+
+	private final Object patchLock = new Object();
+
+	private final Map<String, VoteType> knownUserVotes = new LinkedHashMap<String, VoteType>(16, 0.75f, true)
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, VoteType> eldest)
+		{
+			return size() > MAX_KNOWN_USER_VOTES;
+		}
+	};
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 */
+	private CacheRefresher(DataManagerImpl dataManager)
+	{
+		this.dataManager = dataManager;
+
+		cache = dataManager.getCacheManager().getCache();
+
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		refreshDelay = xmlConfiguration.getLong("refresh/refresh-delay", 0);
+	}
+
+	/**
+	 * Returns a {@link CacheRefresher} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code CacheRefresher} instance
+	 */
+	static synchronized CacheRefresher getInstance(DataManagerImpl dataManager)
+	{
+		return new CacheRefresher(dataManager);
+	}
+
+	/**
+	 * Adds the new {@link Comment} to the {@code Cache} entry of the
+	 * {@link Task} with the given {@link TaskID}. If the {@code Comment} has
+	 * not been added successfully, the {@code Cache} entry is invalidated
+	 * instead.
+	 * 
+	 * @param userSession The {@code UserSession} of the creator
+	 * @param taskID The {@code TaskID}
+	 * @param commentID The {@code CommentID} of the new {@code Comment} or
+	 *        {@code null}
+	 * @param content The content of the new {@code Comment}
+	 */
+	void commentAdded(UserSession userSession, TaskID taskID, CommentID commentID, String content)
+	{
+		if(commentID == null)
+		{
+			invalidate(taskID);
+			return;
+		}
+
+		final Comment comment = new CommentBuilder(commentID, dataManager).content(content).creationTime(new DateTime()).creator(userSession.getUser().getUserID()).votes(new Votes(0, 0)).build();
+
+		patch(taskID, new TaskPatch()
+		{
+			@Override
+			public Task apply(Task task)
+			{
+				if(!((Cachable) task).isCompletelyLoaded())
+				{
+					return task;
+				}
+
+				return new TaskBuilder(task, dataManager, dataManager).comments(addToResultSet(task.getComments(), comment)).build();
+			}
+		});
+	}
+
+	/**
+	 * Adds the new {@link Submission} to the {@code Cache} entry of the
+	 * {@link Task} with the given {@link TaskID}. If the {@code Submission}
+	 * has not been added successfully, the {@code Cache} entry is invalidated
+	 * instead.
+	 * 
+	 * @param userSession The {@code UserSession} of the creator
+	 * @param taskID The {@code TaskID}
+	 * @param submissionID The {@code SubmissionID} of the new
+	 *        {@code Submission} or {@code null}
+	 * @param documentID The {@code DocumentID} of the new {@code Submission}
+	 */
+	void submissionAdded(UserSession userSession, TaskID taskID, SubmissionID submissionID, DocumentID documentID)
+	{
+		if(submissionID == null)
+		{
+			invalidate(taskID);
+			return;
+		}
+
+		ResultSet<TagID, Tag> tags = ResultSetFactory.getResultSetInstance(null, dataManager.getSystemSession(), false, LoadType.COMPLETE, new LinkedHashMap<TagID, Tag>(), null);
+
+		final Submission submission = new SubmissionBuilder(submissionID, dataManager, dataManager, documentID).creationTime(new DateTime()).creator(userSession.getUser().getUserID()).votes(new Votes(0, 0)).tags(tags).build();
+
+		patch(taskID, new TaskPatch()
+		{
+			@Override
+			public Task apply(Task task)
+			{
+				if(!((Cachable) task).isCompletelyLoaded())
+				{
+					return task;
+				}
+
+				return new TaskBuilder(task, dataManager, dataManager).submissions(addToResultSet(task.getSubmissions(), submission)).build();
+			}
+		});
+	}
+
+	/**
+	 * Adds the new {@link Tag} to the {@link Task} or {@link Submission} with
+	 * the given {@link EntityID} in the {@code Cache} entry of the
+	 * {@code Task}. If the {@code Tag} has not been added successfully, the
+	 * {@code Cache} entry is invalidated instead.
+	 * 
+	 * @param userSession The {@code UserSession} of the creator
+	 * @param entityID The {@code EntityID} of the tagged {@code Entity}
+	 * @param tagID The {@code TagID} of the new {@code Tag} or {@code null}
+	 * @param value The value of the new {@code Tag}
+	 */
+	void tagAdded(UserSession userSession, final EntityID entityID, TagID tagID, String value)
+	{
+		if(tagID == null)
+		{
+			invalidate(entityID);
+			return;
+		}
+
+		final Tag tag = new TagBuilder(tagID, dataManager).value(value).creationTime(new DateTime()).creator(userSession.getUser().getUserID()).votes(new Votes(0, 0)).build();
+
+		patch(getTaskID(entityID), new TaskPatch()
+		{
+			@Override
+			public Task apply(Task task)
+			{
+				if(!((Cachable) task).isCompletelyLoaded())
+				{
+					return task;
+				}
+				else if(entityID instanceof TaskID)
+				{
+					return new TaskBuilder(task, dataManager, dataManager).tags(addToResultSet(task.getTags(), tag)).build();
+				}
+				else if(entityID instanceof SubmissionID)
+				{
+					Submission submission = task.getSubmissions().get((SubmissionID) entityID);
+
+					if(submission == null)
+					{
+						return null;
+					}
+
+					Submission patchedSubmission = new SubmissionBuilder(submission.getID(), dataManager, dataManager, submission.getDocumentID()).creationTime(submission.getCreationTime()).creator(submission.getCreator()).votes(submission.getVotes()).tags(addToResultSet(submission.getTags(), tag)).build();
+
+					return new TaskBuilder(task, dataManager, dataManager).submissions(addToResultSet(task.getSubmissions(), patchedSubmission)).build();
+				}
+				else
+				{
+					return null;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Remembers the {@link VoteType} of the {@code User} for the
+	 * {@code Entity} with the given {@link EntityID}, so that later votes of
+	 * the {@code User} can be patched into the {@code Cache}.
+	 * 
+	 * @param userSession The {@code UserSession} of the {@code User}
+	 * @param entityID The {@code EntityID}
+	 * @param voteType The {@code VoteType} or {@code null} if the
+	 *        {@code User} has not voted
+	 */
+	void userVoteLoaded(UserSession userSession, EntityID entityID, VoteType voteType)
+	{
+		synchronized(knownUserVotes)
+		{
+			knownUserVotes.put(createUserVoteKey(userSession, entityID), voteType);
+		}
+	}
+
+	/**
+	 * Adjusts the {@link Votes} of the {@link Task} or {@link Submission} with
+	 * the given {@link EntityID} in the {@code Cache} entry of the
+	 * {@code Task}. If the previous {@link VoteType} of the {@code User} is
+	 * not known or the vote was not successful, the {@code Cache} entry is
+	 * invalidated instead.
+	 * 
+	 * @param userSession The {@code UserSession} of the {@code User}
+	 * @param entityID The {@code EntityID}
+	 * @param voteType The new {@code VoteType} or {@code null} if the vote has
+	 *        been removed
+	 * @param wasSuccessful {@code true} if the vote was successful; otherwise
+	 *        {@code false}
+	 */
+	void userVoteChanged(UserSession userSession, final EntityID entityID, final VoteType voteType, boolean wasSuccessful)
+	{
+		String userVoteKey = createUserVoteKey(userSession, entityID);
+
+		boolean previousVoteTypeKnown;
+		final VoteType previousVoteType;
+
+		synchronized(knownUserVotes)
+		{
+			previousVoteTypeKnown = knownUserVotes.containsKey(userVoteKey);
+			previousVoteType = knownUserVotes.remove(userVoteKey);
+
+			if(wasSuccessful)
+			{
+				knownUserVotes.put(userVoteKey, voteType);
+			}
+		}
+
+		if(!wasSuccessful || !previousVoteTypeKnown)
+		{
+			invalidate(entityID);
+			return;
+		}
+
+		patch(getTaskID(entityID), new TaskPatch()
+		{
+			@Override
+			public Task apply(Task task)
+			{
+				if(entityID instanceof TaskID)
+				{
+					return new TaskBuilder(task, dataManager, dataManager).votes(adjustVotes(task.getVotes(), previousVoteType, voteType)).build();
+				}
+				else if(!((Cachable) task).isCompletelyLoaded())
+				{
+					return task;
+				}
+				else if(entityID instanceof SubmissionID)
+				{
+					Submission submission = task.getSubmissions().get((SubmissionID) entityID);
+
+					if(submission == null)
+					{
+						return null;
+					}
+
+					Submission patchedSubmission = new SubmissionBuilder(submission.getID(), dataManager, dataManager, submission.getDocumentID()).creationTime(submission.getCreationTime()).creator(submission.getCreator()).votes(adjustVotes(submission.getVotes(), previousVoteType, voteType)).tags(submission.getTags()).build();
+
+					return new TaskBuilder(task, dataManager, dataManager).submissions(addToResultSet(task.getSubmissions(), patchedSubmission)).build();
+				}
+				else
+				{
+					return null;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Invalidates the {@code Cache} entry of the {@link Task} which contains
+	 * the {@code Entity} with the given {@link EntityID}. If a refresh delay
+	 * is configured, the {@code Task} is reloaded after the delay. Outstanding
+	 * loads of the {@code Task} are invalidated as well, even if the
+	 * {@code Task} is not in the {@code Cache}.
+	 * 
+	 * @param entityID The {@code EntityID}
+	 */
+	void invalidate(EntityID entityID)
+	{
+		TaskID taskID = getTaskID(entityID);
+
+		dataManager.getTaskLoader().invalidate(taskID);
+
+		Element element = cache.get(taskID);
+
+		if(element == null)
+		{
+			return;
+		}
+
+		boolean completelyLoaded = ((Cachable) element.getObjectValue()).isCompletelyLoaded();
+
+		cache.remove(taskID);
+
+		if(refreshDelay <= 0)
+		{
+			return;
+		}
+
+		synchronized(pendingTasks)
+		{
+			Boolean pendingCompletelyLoaded = pendingTasks.get(taskID);
+
+			if(pendingCompletelyLoaded != null)
+			{
+				completelyLoaded = completelyLoaded || pendingCompletelyLoaded.booleanValue();
+			}
+
+			pendingTasks.put(taskID, Boolean.valueOf(completelyLoaded));
+
+			if(!refreshScheduled)
+			{
+				refreshScheduled = true;
+
+				dataManager.getConcurrencyManager().getScheduledExecutor().schedule(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						try
+						{
+							refresh();
+						}
+						catch(RuntimeException e)
+						{
+							LOGGER.log(Level.WARNING, "[TaskService CacheRefresher] The refresh has failed.", e);
+						}
+					}
+				}, refreshDelay, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Patches the {@code Cache} entry of the {@link Task} with the given
+	 * {@link TaskID} with the given {@link TaskPatch}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Outstanding loads of the {@code Task} are
+	 * invalidated first, because they might have been started before the
+	 * write operation.
+	 * 
+	 * @param taskID The {@code TaskID}
+	 * @param taskPatch The {@code TaskPatch}
+	 */
+	private void patch(TaskID taskID, TaskPatch taskPatch)
+	{
+		dataManager.getTaskLoader().invalidate(taskID);
+
+		synchronized(patchLock)
+		{
+			Element element = cache.getQuiet(taskID);
+
+			if(element == null)
+			{
+				return;
+			}
+
+			Task task = (Task) element.getObjectValue();
+			Task patchedTask = taskPatch.apply(task);
+
+			if(patchedTask == null)
+			{
+				invalidate(taskID);
+			}
+			else if(patchedTask != task)
+			{
+				cache.put(new Element(taskID, patchedTask));
+			}
+		}
+	}
+
+	/**
+	 * Reloads all pending {@link Task}s and puts them in the {@code Cache}.
+	 */
+	private void refresh()
+	{
+		List<TaskID> completeTaskIDs = new ArrayList<TaskID>();
+		List<TaskID> metaDataTaskIDs = new ArrayList<TaskID>();
+
+		synchronized(pendingTasks)
+		{
+			for(Map.Entry<TaskID, Boolean> pendingTask : pendingTasks.entrySet())
+			{
+				if(pendingTask.getValue().booleanValue())
+				{
+					completeTaskIDs.add(pendingTask.getKey());
+				}
+				else
+				{
+					metaDataTaskIDs.add(pendingTask.getKey());
+				}
+			}
+
+			pendingTasks.clear();
+			refreshScheduled = false;
+		}
+
+		dataManager.getTasksByIDs(completeTaskIDs, true, true);
+		dataManager.getTasksByIDs(metaDataTaskIDs, false, true);
+	}
+
+	/**
+	 * Returns a copy of the given {@link ResultSet} in which the given
+	 * {@link Entity} has been added or has replaced the {@code Entity} with
+	 * the same ID.
+	 * 
+	 * @param <K> The type of the IDs
+	 * @param <V> The type of the {@code Entity}s
+	 * @param resultSet The {@code ResultSet}
+	 * @param entity The {@code Entity}
+	 * @return The copy of the {@code ResultSet}
+	 */
+	private <K extends EntityID, V extends Entity<K>> ResultSet<K, V> addToResultSet(ResultSet<K, V> resultSet, V entity)
+	{
+		LinkedHashMap<K, V> data = new LinkedHashMap<K, V>();
+
+		for(V value : resultSet)
+		{
+			data.put(value.getID(), value);
+		}
+
+		data.put(entity.getID(), entity);
+
+		return ResultSetFactory.getResultSetInstance(null, dataManager.getSystemSession(), false, LoadType.COMPLETE, data, null);
+	}
+
+	/**
+	 * Returns the {@link Votes} which result from replacing the previous
+	 * {@link VoteType} of a {@code User} by the new one.
+	 * 
+	 * @param votes The current {@code Votes}
+	 * @param previousVoteType The previous {@code VoteType} or {@code null}
+	 * @param voteType The new {@code VoteType} or {@code null}
+	 * @return The adjusted {@code Votes}
+	 */
+	private static Votes adjustVotes(Votes votes, VoteType previousVoteType, VoteType voteType)
+	{
+		int upVotes = votes.getUpVotes();
+		int downVotes = votes.getDownVotes();
+
+		if(previousVoteType == VoteType.UP)
+		{
+			upVotes--;
+		}
+		else if(previousVoteType == VoteType.DOWN)
+		{
+			downVotes--;
+		}
+
+		if(voteType == VoteType.UP)
+		{
+			upVotes++;
+		}
+		else if(voteType == VoteType.DOWN)
+		{
+			downVotes++;
+		}
+
+		return new Votes(Math.max(0, upVotes), Math.max(0, downVotes));
+	}
+
+	/**
+	 * Returns the key under which the {@link VoteType} of the {@code User} of
+	 * the given {@link UserSession} for the given {@link EntityID} is
+	 * remembered.
+	 * 
+	 * @param userSession The {@code UserSession}
+	 * @param entityID The {@code EntityID}
+	 * @return The key
+	 */
+	private static String createUserVoteKey(UserSession userSession, EntityID entityID)
+	{
+		return userSession.getUser().getAuthID() + " " + entityID.getUniqueResourceURL().toExternalForm();
+	}
+
+	/**
+	 * Returns the {@link TaskID} of the {@link Task} which contains the
+	 * {@code Entity} with the given {@link EntityID}.
+	 * 
+	 * @param entityID The {@code EntityID}
+	 * @return The {@code TaskID}
+	 */
+	private static TaskID getTaskID(EntityID entityID)
+	{
+		if(entityID instanceof SubEntityID<?, ?>)
+		{
+			@SuppressWarnings("unchecked")
+			SubEntityID<TaskID, ?> subEntityID = (SubEntityID<TaskID, ?>) entityID;
+
+			return subEntityID.getRootID();
+		}
+		else
+		{
+			return (TaskID) entityID;
+		}
+	}
+
+	/**
+	 * A {@code TaskPatch} creates the patched copy of a cached {@link Task}.
+	 */
+	private interface TaskPatch
+	{
+		/**
+		 * Returns the patched copy of the given {@link Task}, the given
+		 * {@code Task} itself if there is nothing to patch, or {@code null} if
+		 * the {@code Task} cannot be patched. <br/><br/>
+		 * 
+		 * <i>Annotation:</i> The sub elements of a {@code Task} which has only
+		 * been loaded with its meta data are not part of its {@code Cache}
+		 * entry, so there is nothing to patch for them.
+		 * 
+		 * @param task The cached {@code Task}
+		 * @return The patched {@code Task}
+		 */
+		Task apply(Task task);
+	}
+}
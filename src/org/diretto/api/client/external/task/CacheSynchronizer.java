@@ -0,0 +1,319 @@
+package org.diretto.api.client.external.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.base.characteristic.Cachable;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+import org.joda.time.DateTime;
+
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.Element;
+
+/**
+ * The {@code CacheSynchronizer} is responsible for keeping the {@code Cache}
+ * up to date. It remembers the point in time of the last synchronization and
+ * requests only the {@link Task}s which have been changed since then.
+ * <br/><br/>
+ * 
+ * <i>Annotation:</i> Only changed {@code Task}s which are in the
+ * {@code Cache} are reloaded and replace their {@code Cache} entries.
+ * {@code Task}s which are completely loaded in the {@code Cache} are reloaded
+ * completely; all other cached {@code Task}s are reloaded with their meta
+ * data. Changed {@code Task}s which are not cached are only loaded if the
+ * {@link TaskIndex} is activated, and then only put in the {@code TaskIndex}.
+ * The point in time is taken from the local clock, so it is
+ * moved back by the configured clock skew margin. Therefore the following
+ * synchronization requests a few {@code Task}s again, but no change is
+ * missed if the local clock is ahead of the clock of the API.
+ * 
+ * @author Tobias Schlecht
+ */
+final class CacheSynchronizer
+{
+	private static final Logger LOGGER = Logger.getLogger(CacheSynchronizer.class.getName());
+
+	private final DataManagerImpl dataManager;
+	private final Cache cache;
+
+	private final boolean synchronizationActivated;
+	private final long synchronizationInterval;
+	private final long clockSkewMargin;
+
+	private final Object synchronizationLock = new Object();
+
+	private DateTime highWaterMark;
+	private volatile DateTime lastSynchronizationTime = null;
+	private volatile int lastChangeCount = 0;
+
+	private ScheduledFuture<?> scheduledSynchronization = null;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 */
+	private CacheSynchronizer(DataManagerImpl dataManager)
+	{
+		this.dataManager = dataManager;
+
+		cache = dataManager.getCacheManager().getCache();
+
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		synchronizationActivated = xmlConfiguration.getBoolean("synchronization/synchronization-activated", false);
+		synchronizationInterval = Math.max(1, xmlConfiguration.getLong("synchronization/synchronization-interval", 60));
+		clockSkewMargin = Math.max(0, xmlConfiguration.getLong("synchronization/clock-skew-margin", 60));
+
+		highWaterMark = createHighWaterMark(new DateTime());
+	}
+
+	/**
+	 * Returns a {@link CacheSynchronizer} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code CacheSynchronizer} instance
+	 */
+	static synchronized CacheSynchronizer getInstance(DataManagerImpl dataManager)
+	{
+		return new CacheSynchronizer(dataManager);
+	}
+
+	/**
+	 * Starts the periodic synchronization if it is activated in the
+	 * configuration. If it has already been started, the invocation has no
+	 * effect.
+	 */
+	synchronized void startScheduledSynchronization()
+	{
+		if(!synchronizationActivated || scheduledSynchronization != null)
+		{
+			return;
+		}
+
+		Runnable synchronization = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					if(dataManager.getTaskIndex().isIndexActivated() && !dataManager.getTaskIndex().isComplete())
+					{
+						synchronizeCompletely();
+					}
+					else
+					{
+						synchronize();
+					}
+				}
+				catch(RuntimeException e)
+				{
+					// A failed run must not cancel the following runs.
+					LOGGER.log(Level.WARNING, "[TaskService CacheSynchronizer] The synchronization has failed.", e);
+				}
+			}
+		};
+
+		scheduledSynchronization = dataManager.getConcurrencyManager().getScheduledExecutor().scheduleWithFixedDelay(synchronization, synchronizationInterval, synchronizationInterval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Stops the periodic synchronization. A synchronization which is already
+	 * running is completed. If the periodic synchronization is not running,
+	 * the invocation has no effect.
+	 */
+	synchronized void stopScheduledSynchronization()
+	{
+		if(scheduledSynchronization != null)
+		{
+			scheduledSynchronization.cancel(false);
+			scheduledSynchronization = null;
+		}
+	}
+
+	/**
+	 * Requests all {@link Task}s which have been changed since the last
+	 * synchronization and refreshes their {@code Cache} entries. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Concurrent synchronizations are executed one after
+	 * another. The statistics can be read during a synchronization.
+	 * 
+	 * @return The number of changed {@code Task}s
+	 */
+	int synchronize()
+	{
+		synchronized(synchronizationLock)
+		{
+			DateTime synchronizationTime = new DateTime();
+
+			List<TaskID> changedTaskIDs = dataManager.getDataFactory().getTaskIDsAfter(highWaterMark);
+
+			TaskIndex taskIndex = dataManager.getTaskIndex();
+
+			List<TaskID> completeTaskIDs = new ArrayList<TaskID>();
+			List<TaskID> metaDataTaskIDs = new ArrayList<TaskID>();
+			List<TaskID> indexTaskIDs = new ArrayList<TaskID>();
+
+			Element element;
+
+			for(TaskID taskID : changedTaskIDs)
+			{
+				element = cache.getQuiet(taskID);
+
+				if(element == null)
+				{
+					if(taskIndex.isIndexActivated())
+					{
+						indexTaskIDs.add(taskID);
+					}
+				}
+				else if(((Cachable) element.getObjectValue()).isCompletelyLoaded())
+				{
+					completeTaskIDs.add(taskID);
+				}
+				else
+				{
+					metaDataTaskIDs.add(taskID);
+				}
+			}
+
+			if(completeTaskIDs.size() > 0)
+			{
+				dataManager.getTasksByIDs(completeTaskIDs, true, true);
+			}
+
+			if(metaDataTaskIDs.size() > 0)
+			{
+				dataManager.getTasksByIDs(metaDataTaskIDs, false, true);
+			}
+
+			if(indexTaskIDs.size() > 0)
+			{
+				for(Task task : dataManager.getDataFactory().getTasksByIDs(indexTaskIDs, false).values())
+				{
+					if(task != null)
+					{
+						taskIndex.put(task);
+					}
+				}
+			}
+
+			highWaterMark = createHighWaterMark(synchronizationTime);
+			lastChangeCount = changedTaskIDs.size();
+			lastSynchronizationTime = synchronizationTime;
+
+			return changedTaskIDs.size();
+		}
+	}
+
+	/**
+	 * Requests all {@link Task}s page by page with their meta data and puts
+	 * them in the {@link TaskIndex}. Only the {@code Cache} entries of
+	 * {@code Task}s which are cached with their meta data are replaced; no
+	 * further {@code Task}s are put in the {@code Cache}, so that the scan
+	 * does not displace the cached {@code Task}s. Afterwards the entries of
+	 * deleted {@code Task}s are removed from the {@code TaskIndex} and it is
+	 * marked as complete.
+	 * 
+	 * @return The number of {@code Task}s
+	 */
+	int synchronizeCompletely()
+	{
+		synchronized(synchronizationLock)
+		{
+			DateTime synchronizationTime = new DateTime();
+
+			TaskStream taskStream = dataManager.getAllTasksAsStream(false, false);
+			TaskIndex taskIndex = dataManager.getTaskIndex();
+
+			Set<TaskID> taskIDs = new HashSet<TaskID>();
+
+			try
+			{
+				Task task;
+				Element element;
+
+				while(taskStream.hasNext())
+				{
+					task = taskStream.next();
+					taskIDs.add(task.getID());
+
+					element = cache.getQuiet(task.getID());
+
+					if(element != null && !((Cachable) element.getObjectValue()).isCompletelyLoaded())
+					{
+						dataManager.putTasksIntoCache(Collections.singletonList(task));
+					}
+					else
+					{
+						taskIndex.put(task);
+					}
+				}
+			}
+			finally
+			{
+				taskStream.close();
+			}
+
+			int taskCount = taskIDs.size();
+
+			taskIndex.retain(taskIDs);
+
+			highWaterMark = createHighWaterMark(synchronizationTime);
+			lastChangeCount = taskCount;
+			lastSynchronizationTime = synchronizationTime;
+
+			taskIndex.setComplete(true);
+
+			return taskCount;
+		}
+	}
+
+	/**
+	 * Returns the point in time of the last successful synchronization or
+	 * {@code null} if there has been no synchronization so far.
+	 * 
+	 * @return The {@code DateTime} of the last synchronization
+	 */
+	DateTime getLastSynchronizationTime()
+	{
+		return lastSynchronizationTime;
+	}
+
+	/**
+	 * Returns the number of changed {@link Task}s of the last successful
+	 * synchronization.
+	 * 
+	 * @return The number of changed {@code Task}s
+	 */
+	int getLastChangeCount()
+	{
+		return lastChangeCount;
+	}
+
+	/**
+	 * Returns the high-water mark for the given point in time of a
+	 * synchronization, which is moved back by the clock skew margin.
+	 * 
+	 * @param synchronizationTime The point in time of the synchronization
+	 * @return The high-water mark
+	 */
+	private DateTime createHighWaterMark(DateTime synchronizationTime)
+	{
+		return synchronizationTime.minusSeconds((int) clockSkewMargin);
+	}
+}
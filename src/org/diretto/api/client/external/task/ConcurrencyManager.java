@@ -0,0 +1,249 @@
+package org.diretto.api.client.external.task;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.configuration.XMLConfiguration;
+
+/**
+ * The {@code ConcurrencyManager} is responsible for the concurrency aspects.
+ * <br/><br/>
+ * 
+ * <i>Annotation:</i> The {@code ConcurrencyManager} and its worker
+ * {@code Thread}s are shared by all {@link DataManager}s of the process. The
+ * {@code ExecutorService}s are shut down when the JVM shuts down.
+ * 
+ * @author Tobias Schlecht
+ */
+final class ConcurrencyManager
+{
+	private static ConcurrencyManager instance = null;
+
+	private final int batchParallelism;
+
+	private ExecutorService batchExecutor = null;
+	private ExecutorService backgroundExecutor = null;
+	private ScheduledExecutorService scheduledExecutor = null;
+	private ScheduledExecutorService timerExecutor = null;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 */
+	private ConcurrencyManager()
+	{
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		batchParallelism = Math.max(1, xmlConfiguration.getInt("concurrency/batch-parallelism", 4));
+
+		Runtime.getRuntime().addShutdownHook(new Thread("TaskService-shutdown")
+		{
+			@Override
+			public void run()
+			{
+				shutdown();
+			}
+		});
+	}
+
+	/**
+	 * Returns a {@link ConcurrencyManager} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code ConcurrencyManager} instance
+	 */
+	static synchronized ConcurrencyManager getInstance(DataManagerImpl dataManager)
+	{
+		if(instance == null)
+		{
+			instance = new ConcurrencyManager();
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Returns the maximum number of batch requests which are executed
+	 * concurrently.
+	 * 
+	 * @return The maximum number of concurrent batch requests
+	 */
+	int getBatchParallelism()
+	{
+		return batchParallelism;
+	}
+
+	/**
+	 * Returns the bounded {@link ExecutorService} for the execution of batch
+	 * requests.
+	 * 
+	 * @return The {@code ExecutorService} for batch requests
+	 */
+	synchronized ExecutorService getBatchExecutor()
+	{
+		if(batchExecutor == null)
+		{
+			batchExecutor = Executors.newFixedThreadPool(batchParallelism, createThreadFactory("batch"));
+		}
+
+		return batchExecutor;
+	}
+
+	/**
+	 * Returns the {@link ExecutorService} for the execution of background
+	 * work, such as the prefetching of result pages. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Background work must not be executed by the batch
+	 * {@code ExecutorService}, because it waits for batch requests itself.
+	 * 
+	 * @return The {@code ExecutorService} for background work
+	 */
+	synchronized ExecutorService getBackgroundExecutor()
+	{
+		if(backgroundExecutor == null)
+		{
+			backgroundExecutor = Executors.newCachedThreadPool(createThreadFactory("background"));
+		}
+
+		return backgroundExecutor;
+	}
+
+	/**
+	 * Returns the {@link ScheduledExecutorService} for the execution of
+	 * periodic work, such as the synchronization of the {@code Cache}.
+	 * 
+	 * @return The {@code ScheduledExecutorService} for periodic work
+	 */
+	synchronized ScheduledExecutorService getScheduledExecutor()
+	{
+		if(scheduledExecutor == null)
+		{
+			scheduledExecutor = Executors.newSingleThreadScheduledExecutor(createThreadFactory("scheduled"));
+		}
+
+		return scheduledExecutor;
+	}
+
+	/**
+	 * Returns the {@link ScheduledExecutorService} for the execution of short
+	 * timers, such as the dispatch of collected batch requests. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The timers must not be executed by the periodic
+	 * {@code ScheduledExecutorService}, because the periodic work executes
+	 * blocking API requests and would delay the timers for their duration.
+	 * The timers themselves must not block either.
+	 * 
+	 * @return The {@code ScheduledExecutorService} for timers
+	 */
+	synchronized ScheduledExecutorService getTimerExecutor()
+	{
+		if(timerExecutor == null)
+		{
+			timerExecutor = Executors.newSingleThreadScheduledExecutor(createThreadFactory("timer"));
+		}
+
+		return timerExecutor;
+	}
+
+	/**
+	 * Initiates an orderly shutdown of all {@code ExecutorService}s. Already
+	 * submitted work is executed, but no new work will be accepted.
+	 */
+	synchronized void shutdown()
+	{
+		if(batchExecutor != null)
+		{
+			batchExecutor.shutdown();
+		}
+
+		if(backgroundExecutor != null)
+		{
+			backgroundExecutor.shutdown();
+		}
+
+		if(scheduledExecutor != null)
+		{
+			scheduledExecutor.shutdown();
+		}
+
+		if(timerExecutor != null)
+		{
+			timerExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Waits if necessary for the given {@link Future} to complete and returns
+	 * its result. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Unchecked exceptions of the computation are rethrown
+	 * as they are, so that the caller experiences the same behavior as with a
+	 * direct invocation.
+	 * 
+	 * @param <T> The result type
+	 * @param future The {@code Future}
+	 * @return The result of the computation
+	 */
+	static <T> T getResult(Future<T> future)
+	{
+		try
+		{
+			return future.get();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch(ExecutionException e)
+		{
+			Throwable cause = e.getCause();
+
+			if(cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			else if(cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			else
+			{
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Creates a {@link ThreadFactory} which creates daemon {@link Thread}s, so
+	 * that the worker {@code Thread}s do not prevent the JVM from shutting
+	 * down.
+	 * 
+	 * @param purpose The purpose of the {@code Thread}s (part of their names)
+	 * @return The {@code ThreadFactory}
+	 */
+	private static ThreadFactory createThreadFactory(final String purpose)
+	{
+		return new ThreadFactory()
+		{
+			private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+			@Override
+			public Thread newThread(Runnable runnable)
+			{
+				Thread thread = new Thread(runnable, "TaskService-" + purpose + "-" + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		};
+	}
+}
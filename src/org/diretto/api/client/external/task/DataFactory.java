@@ -5,6 +5,10 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.diretto.api.client.base.data.BoundingBox;
 import org.diretto.api.client.base.data.ResultSet;
@@ -20,7 +24,6 @@ import org.diretto.api.client.base.types.OrderType;
 import org.diretto.api.client.base.types.VoteType;
 import org.diretto.api.client.external.task.binding.entities.SubmissionResource;
 import org.diretto.api.client.external.task.binding.entities.TaskResource;
-import org.diretto.api.client.external.task.binding.major.QueryResultPageResource;
 import org.diretto.api.client.external.task.binding.major.ResultPageResource;
 import org.diretto.api.client.external.task.binding.major.TaskMetaDataResource;
 import org.diretto.api.client.external.task.binding.major.TaskSnapShotResource;
@@ -201,21 +204,89 @@ final class DataFactory
 	 */
 	LinkedHashMap<TaskID, Task> getNextPageData(ResultSetImpl<TaskID, Task> resultSet)
 	{
-		if(resultSet.isQueryResultSet())
-		{
-			QueryResultPageResource queryResultPageResource = resourceManager.getQueryResultPageResource(resultSet.getNextPageURL());
+		TaskPage taskPage = getPage(resultSet.getNextPageURL(), resultSet.isQueryResultSet(), resultSet.getLoadCompletelyStatus());
+
+		resultSet.setNextPageURL(taskPage.getNextPageURL());
 
-			resultSet.setNextPageURL(createNextPageURL(queryResultPageResource.getResults().getPage().getRelated()));
+		return taskPage.getTasks();
+	}
 
-			return getTasksByIDs(createTaskIDs(queryResultPageResource.getResults().getPage().getList()), resultSet.getLoadCompletelyStatus());
+	/**
+	 * Loads the result page with the given {@link URL} including its
+	 * {@link Task}s and returns it.
+	 * 
+	 * @param pageURL The {@code URL} of the result page
+	 * @param isQueryResultSet {@code true} if the page is a query result page;
+	 *        otherwise {@code false}
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return The {@code TaskPage}
+	 */
+	TaskPage getPage(URL pageURL, boolean isQueryResultSet, boolean loadCompletely)
+	{
+		if(isQueryResultSet)
+		{
+			PageResource pageResource = resourceManager.getQueryResultPageResource(pageURL).getResults().getPage();
+
+			return createTaskPage(pageResource.getList(), pageResource.getRelated(), loadCompletely);
 		}
 		else
 		{
-			ResultPageResource resultPageResource = resourceManager.getResultPage(resultSet.getNextPageURL());
+			ResultPageResource resultPageResource = resourceManager.getResultPage(pageURL);
+
+			return createTaskPage(resultPageResource.getList(), resultPageResource.getRelated(), loadCompletely);
+		}
+	}
+
+	/**
+	 * Loads the first result page of all available {@link Task}s and returns
+	 * it.
+	 * 
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return The first {@code TaskPage}
+	 */
+	TaskPage getAllTasksPage(boolean loadCompletely)
+	{
+		try
+		{
+			ResultPageResource resultPageResource = resourceManager.getAllTasks();
+
+			return createTaskPage(resultPageResource.getList(), resultPageResource.getRelated(), loadCompletely);
+		}
+		catch(NoResultsException e)
+		{
+			return new TaskPage(new LinkedHashMap<TaskID, Task>(), null);
+		}
+	}
 
-			resultSet.setNextPageURL(createNextPageURL(resultPageResource.getRelated()));
+	/**
+	 * Loads the first result page of the {@link Task}s after the given
+	 * {@link DateTime} and returns it.
+	 * 
+	 * @param time The {@code DateTime} after which the {@code Task}s should be
+	 *        returned
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return The first {@code TaskPage}
+	 */
+	TaskPage getTasksAfterPage(DateTime time, boolean loadCompletely)
+	{
+		try
+		{
+			ResultPageResource resultPageResource = resourceManager.getTasksAfter(time);
 
-			return getTasksByIDs(createTaskIDs(resultPageResource.getList()), resultSet.getLoadCompletelyStatus());
+			return createTaskPage(resultPageResource.getList(), resultPageResource.getRelated(), loadCompletely);
+		}
+		catch(NoResultsException e)
+		{
+			return new TaskPage(new LinkedHashMap<TaskID, Task>(), null);
 		}
 	}
 
@@ -240,24 +311,92 @@ final class DataFactory
 	 * @see DataManagerImpl#getTasks(List, BoundingBox, TimeRange, boolean)
 	 */
 	ResultSetImpl<TaskID, Task> getTasks(List<String> tags, BoundingBox boundingBox, TimeRange timeRange, boolean loadCompletely)
+	{
+		try
+		{
+			return createQueryTaskResultSet(executeQuery(resolveTagIDs(tags), boundingBox, timeRange), loadCompletely);
+		}
+		catch(NoResultsException e)
+		{
+			return createEmptyTaskResultSet(true, loadCompletely);
+		}
+	}
+
+	/**
+	 * Resolves the given tags to the {@code URL}s of their base tags, which are
+	 * needed to formulate a query. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the first step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean)}.
+	 * 
+	 * @param tags A {@code List} of tags in {@code String} representation
+	 * @return The {@code URL}s of the base tags in {@code String}
+	 *         representation
+	 */
+	ArrayList<String> resolveTagIDs(List<String> tags)
 	{
 		ArrayList<String> tagIDs = new ArrayList<String>();
 
 		if(tags.size() > 0)
 		{
-			MultipleValuesRequestResource multipleValuesRequestResource = new MultipleValuesRequestResource();
+			TagResolver tagResolver = dataManager.getTagResolver();
 
-			multipleValuesRequestResource.setValues(new ArrayList<String>(tags));
+			Map<String, String> resolvedTags = tagResolver.getResolvedTags(tags);
+			ArrayList<String> unresolvedTags = new ArrayList<String>();
+
+			for(String tag : tags)
+			{
+				if(!resolvedTags.containsKey(tag) && !unresolvedTags.contains(tag))
+				{
+					unresolvedTags.add(tag);
+				}
+			}
+
+			if(unresolvedTags.size() > 0)
+			{
+				MultipleValuesRequestResource multipleValuesRequestResource = new MultipleValuesRequestResource();
+
+				multipleValuesRequestResource.setValues(unresolvedTags);
+
+				MultipleTagsResource multipleTagsResource = resourceManager.getMultipleTags(multipleValuesRequestResource);
+				LinkedHashMap<String, BaseTagResource> results = multipleTagsResource.getResults();
+
+				String tagID;
+
+				for(String tag : unresolvedTags)
+				{
+					tagID = results.get(tag).getBaseTag().getLink().getHref();
 
-			MultipleTagsResource multipleTagsResource = resourceManager.getMultipleTags(multipleValuesRequestResource);
-			LinkedHashMap<String, BaseTagResource> results = multipleTagsResource.getResults();
+					resolvedTags.put(tag, tagID);
+					tagResolver.putResolvedTag(tag, tagID);
+				}
+			}
 
 			for(String tag : tags)
 			{
-				tagIDs.add(results.get(tag).getBaseTag().getLink().getHref());
+				tagIDs.add(resolvedTags.get(tag));
 			}
 		}
 
+		return tagIDs;
+	}
+
+	/**
+	 * Dispatches a query with the given parameters and returns the first
+	 * result page. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the second step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean)}.
+	 * 
+	 * @param tagIDs The {@code URL}s of the base tags in {@code String}
+	 *        representation
+	 * @param boundingBox A {@code BoundingBox}
+	 * @param timeRange A {@code TimeRange}
+	 * @return The first {@code PageResource} of the query result
+	 * @throws NoResultsException
+	 */
+	PageResource executeQuery(ArrayList<String> tagIDs, BoundingBox boundingBox, TimeRange timeRange) throws NoResultsException
+	{
 		DispatchQueryResource dispatchQueryResource = new DispatchQueryResource();
 		QueryResource queryResource = new QueryResource();
 		TimeRangeResource timeRangeResource = new TimeRangeResource();
@@ -273,16 +412,40 @@ final class DataFactory
 
 		dispatchQueryResource.setQuery(queryResource);
 
-		try
-		{
-			PageResource pageResource = resourceManager.executeQuery(dispatchQueryResource).getResults().getPage();
+		return resourceManager.executeQuery(dispatchQueryResource).getResults().getPage();
+	}
 
-			return createTaskResultSet(pageResource.getList(), pageResource.getRelated(), true, loadCompletely);
-		}
-		catch(NoResultsException e)
-		{
-			return createEmptyTaskResultSet(true, loadCompletely);
-		}
+	/**
+	 * Creates a {@link ResultSet} from the given query result page and
+	 * returns the {@code ResultSet}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This is the third step of
+	 * {@link #getTasks(List, BoundingBox, TimeRange, boolean)}.
+	 * 
+	 * @param pageResource The {@code PageResource} of the query result
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return The created {@code ResultSet}
+	 */
+	ResultSetImpl<TaskID, Task> createQueryTaskResultSet(PageResource pageResource, boolean loadCompletely)
+	{
+		return createTaskResultSet(pageResource.getList(), pageResource.getRelated(), true, loadCompletely);
+	}
+
+	/**
+	 * Creates and returns an empty {@link ResultSet} for a query.
+	 * 
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return An empty {@code ResultSet}
+	 */
+	ResultSetImpl<TaskID, Task> createEmptyQueryTaskResultSet(boolean loadCompletely)
+	{
+		return createEmptyTaskResultSet(true, loadCompletely);
 	}
 
 	/**
@@ -337,51 +500,107 @@ final class DataFactory
 	}
 
 	/**
-	 * {@code forceAPICall} = {@code true}
+	 * Returns the {@link TaskID}s of all {@link Task}s after the given
+	 * {@link DateTime}. <br/><br/>
 	 * 
-	 * @see DataManagerImpl#getTasksByIDs(List, boolean, boolean)
+	 * <i>Annotation:</i> All result pages are requested, but in contrast to
+	 * {@link #getTasksAfter(DateTime, boolean)} the {@code Task}s themselves
+	 * are not loaded.
+	 * 
+	 * @param time The {@code DateTime} after which the {@code Task}s should be
+	 *        returned
+	 * @return The {@code List} of {@code TaskID}s
 	 */
-	LinkedHashMap<TaskID, Task> getTasksByIDs(List<TaskID> taskIDs, boolean loadCompletely)
+	List<TaskID> getTaskIDsAfter(DateTime time)
 	{
-		MultipleTasksRequestResource multipleTasksRequestResource = new MultipleTasksRequestResource();
-		ArrayList<String> tasksList = new ArrayList<String>();
+		List<TaskID> taskIDs = new ArrayList<TaskID>();
 
-		for(TaskID taskID : taskIDs)
+		ResultPageResource resultPageResource;
+
+		try
 		{
-			tasksList.add(taskID.getUniqueResourceURL().toExternalForm());
+			resultPageResource = resourceManager.getTasksAfter(time);
+		}
+		catch(NoResultsException e)
+		{
+			return taskIDs;
 		}
 
-		multipleTasksRequestResource.setTasks(tasksList);
-
-		LinkedHashMap<TaskID, Task> tasks = new LinkedHashMap<TaskID, Task>();
-
-		if(loadCompletely)
+		while(true)
 		{
-			LinkedHashMap<String, TaskSnapShotResource> results = resourceManager.getMultipleSnapShotTasks(multipleTasksRequestResource).getResults();
+			taskIDs.addAll(createTaskIDs(resultPageResource.getList()));
 
-			Task task;
+			URL nextPageURL = createNextPageURL(resultPageResource.getRelated());
 
-			for(TaskID taskID : taskIDs)
+			if(nextPageURL == null)
 			{
-				task = createSnapShotTask(taskID, results.get(taskID.getUniqueResourceURL().toExternalForm()));
-
-				tasks.put(taskID, task);
+				return taskIDs;
 			}
+
+			resultPageResource = resourceManager.getResultPage(nextPageURL);
 		}
-		else
+	}
+
+	/**
+	 * {@code forceAPICall} = {@code true} <br/><br/>
+	 * 
+	 * <i>Annotation:</i> If more {@code TaskID}s are requested than the API
+	 * allows for one request, the {@code TaskID}s are split into chunks which
+	 * are requested concurrently. The returned {@code LinkedHashMap} preserves
+	 * the order of the given {@code TaskID}s.
+	 * 
+	 * @see DataManagerImpl#getTasksByIDs(List, boolean, boolean)
+	 */
+	LinkedHashMap<TaskID, Task> getTasksByIDs(List<TaskID> taskIDs, final boolean loadCompletely)
+	{
+		int batchSize = Math.max(1, dataManager.getMaxTaskRequestSize());
+
+		if(taskIDs.size() <= batchSize)
 		{
-			LinkedHashMap<String, TaskMetaDataResource> results = resourceManager.getMultipleMetaDataTasks(multipleTasksRequestResource).getResults();
+			return getTasksByIDsBatch(taskIDs, loadCompletely);
+		}
 
-			Task task;
+		ExecutorService batchExecutor = dataManager.getConcurrencyManager().getBatchExecutor();
+		List<Future<LinkedHashMap<TaskID, Task>>> futures = new ArrayList<Future<LinkedHashMap<TaskID, Task>>>();
 
-			for(TaskID taskID : taskIDs)
+		LinkedHashMap<TaskID, Task> tempMap = new LinkedHashMap<TaskID, Task>();
+
+		try
+		{
+			for(int fromIndex = 0; fromIndex < taskIDs.size(); fromIndex += batchSize)
 			{
-				task = createMetaDataTask(taskID, results.get(taskID.getUniqueResourceURL().toExternalForm()));
+				final List<TaskID> chunk = new ArrayList<TaskID>(taskIDs.subList(fromIndex, Math.min(fromIndex + batchSize, taskIDs.size())));
 
-				tasks.put(taskID, task);
+				futures.add(batchExecutor.submit(new Callable<LinkedHashMap<TaskID, Task>>()
+				{
+					@Override
+					public LinkedHashMap<TaskID, Task> call()
+					{
+						return getTasksByIDsBatch(chunk, loadCompletely);
+					}
+				}));
+			}
+
+			for(Future<LinkedHashMap<TaskID, Task>> future : futures)
+			{
+				tempMap.putAll(ConcurrencyManager.getResult(future));
+			}
+		}
+		finally
+		{
+			for(Future<LinkedHashMap<TaskID, Task>> future : futures)
+			{
+				future.cancel(true);
 			}
 		}
 
+		LinkedHashMap<TaskID, Task> tasks = new LinkedHashMap<TaskID, Task>();
+
+		for(TaskID taskID : taskIDs)
+		{
+			tasks.put(taskID, tempMap.get(taskID));
+		}
+
 		return tasks;
 	}
 
@@ -656,6 +875,25 @@ final class DataFactory
 		return taskIDs;
 	}
 
+	/**
+	 * Creates a {@link TaskPage} from the given page data and returns the
+	 * {@code TaskPage}.
+	 * 
+	 * @param listArrayList The {@code list} {@code ArrayList} with the
+	 *        {@code TaskHyperLinkResource}s
+	 * @param relatedArrayList The {@code related} {@code ArrayList} with the
+	 *        {@code HyperLinkResourceWrapper}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return The created {@code TaskPage}
+	 */
+	private TaskPage createTaskPage(ArrayList<TaskHyperLinkResource> listArrayList, ArrayList<HyperLinkResourceWrapper> relatedArrayList, boolean loadCompletely)
+	{
+		return new TaskPage(getTasksByIDs(createTaskIDs(listArrayList), loadCompletely), createNextPageURL(relatedArrayList));
+	}
+
 	/**
 	 * Creates a {@link ResultSet} from the given page data and returns the
 	 * {@code ResultSet}.
@@ -691,6 +929,64 @@ final class DataFactory
 		return (ResultSetImpl<TaskID, Task>) ResultSetFactory.getResultSetInstance(dataManager, systemSession, isQueryResultSet, loadType, getTasksByIDs(taskIDs, loadCompletely), url);
 	}
 
+	/**
+	 * Requests the {@link Task}s with the given {@link TaskID}s with one API
+	 * call and returns them. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The number of {@code TaskID}s must not exceed the
+	 * maximum request size of the API.
+	 * 
+	 * @param taskIDs A {@code List} of {@code TaskID}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return The requested {@code Task}s
+	 */
+	private LinkedHashMap<TaskID, Task> getTasksByIDsBatch(List<TaskID> taskIDs, boolean loadCompletely)
+	{
+		MultipleTasksRequestResource multipleTasksRequestResource = new MultipleTasksRequestResource();
+		ArrayList<String> tasksList = new ArrayList<String>();
+
+		for(TaskID taskID : taskIDs)
+		{
+			tasksList.add(taskID.getUniqueResourceURL().toExternalForm());
+		}
+
+		multipleTasksRequestResource.setTasks(tasksList);
+
+		LinkedHashMap<TaskID, Task> tasks = new LinkedHashMap<TaskID, Task>();
+
+		if(loadCompletely)
+		{
+			LinkedHashMap<String, TaskSnapShotResource> results = resourceManager.getMultipleSnapShotTasks(multipleTasksRequestResource).getResults();
+
+			Task task;
+
+			for(TaskID taskID : taskIDs)
+			{
+				task = createSnapShotTask(taskID, results.get(taskID.getUniqueResourceURL().toExternalForm()));
+
+				tasks.put(taskID, task);
+			}
+		}
+		else
+		{
+			LinkedHashMap<String, TaskMetaDataResource> results = resourceManager.getMultipleMetaDataTasks(multipleTasksRequestResource).getResults();
+
+			Task task;
+
+			for(TaskID taskID : taskIDs)
+			{
+				task = createMetaDataTask(taskID, results.get(taskID.getUniqueResourceURL().toExternalForm()));
+
+				tasks.put(taskID, task);
+			}
+		}
+
+		return tasks;
+	}
+
 	/**
 	 * Sets the base data of the given {@link TaskResource} to the given
 	 * {@link TaskBuilder}.
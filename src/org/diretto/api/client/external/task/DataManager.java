@@ -1,6 +1,8 @@
 package org.diretto.api.client.external.task;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.diretto.api.client.base.data.BoundingBox;
 import org.diretto.api.client.base.data.ResultSet;
@@ -21,6 +23,14 @@ import org.joda.time.DateTime;
  */
 public interface DataManager
 {
+	/**
+	 * Registers a {@link MetricsListener}, which will be notified about every
+	 * API request and every {@code Cache} access.
+	 * 
+	 * @param metricsListener The {@code MetricsListener}
+	 */
+	void addMetricsListener(MetricsListener metricsListener);
+
 	/**
 	 * Creates a new {@link Task} and returns the {@link TaskID} if it was
 	 * successful.
@@ -87,14 +97,112 @@ public interface DataManager
 	 */
 	ResultSet<TaskID, Task> getAllTasks(boolean loadCompletely);
 
+	/**
+	 * Returns a {@link TaskStream} over all available {@link Task}s. The
+	 * {@code Task}s are loaded page by page while iterating, so that only a
+	 * bounded number of pages is held in memory regardless of the number of
+	 * available {@code Task}s. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This method is intended for full scans of all
+	 * {@code Task}s. In contrast to {@link #getAllTasks(boolean)} no
+	 * {@link ResultSet} is built and the {@code Cache} is only populated on
+	 * demand, so that the scan does not displace the current content of the
+	 * {@code Cache}.
+	 * 
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param populateCache {@code true} if the loaded {@code Task}s should be
+	 *        put in the {@code Cache}; otherwise {@code false}
+	 * @return A {@code TaskStream} over the {@code Task}s
+	 */
+	TaskStream getAllTasksAsStream(boolean loadCompletely, boolean populateCache);
+
+	/**
+	 * Returns an {@link AsyncTaskService}, which provides the read operations
+	 * of this {@code DataManager} in a non-blocking manner. The operations
+	 * are executed by the given {@link Executor}.
+	 * 
+	 * @param executor The {@code Executor} which executes the operations
+	 * @return An {@code AsyncTaskService}
+	 */
+	AsyncTaskService getAsyncTaskService(Executor executor);
+
+	/**
+	 * Returns the number of {@link Task}s which have been changed since the
+	 * previous synchronization of the {@code Cache}, as determined by the last
+	 * synchronization.
+	 * 
+	 * @return The number of changed {@code Task}s
+	 */
+	int getLastCacheSynchronizationChangeCount();
+
+	/**
+	 * Returns the point in time of the last synchronization of the
+	 * {@code Cache} or {@code null} if the {@code Cache} has not been
+	 * synchronized so far.
+	 * 
+	 * @return The {@code DateTime} of the last synchronization
+	 */
+	DateTime getLastCacheSynchronizationTime();
+
+	/**
+	 * Returns the current {@link LoadStatistics}, which count the
+	 * {@code Cache} hits and misses, the requests which have been served by
+	 * waiting for an outstanding load of the same {@link Task} and the batch
+	 * requests with their fill ratio.
+	 * 
+	 * @return The current {@code LoadStatistics}
+	 */
+	LoadStatistics getLoadStatistics();
+
 	/**
 	 * Returns the maximum value of {@link Task}s which can be requested with
-	 * one method invocation.
+	 * one API call. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The methods {@link #getTasksByIDs(List)} and
+	 * {@link #getTasksByIDs(List, boolean, boolean)} accept any number of
+	 * {@code TaskID}s. Larger requests are split into several API calls of at
+	 * most this size, which are executed concurrently.
 	 * 
 	 * @return The maximum value of {@link Task}s which can be requested
 	 */
 	int getMaxTaskRequestSize();
 
+	/**
+	 * Returns a {@link ResultSet} with the {@link Task}s whose relevant areas
+	 * are nearest to the given location, ordered by ascending distance. The
+	 * {@code Task}s are determined with the task index. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The task index has to be complete (see
+	 * {@link #isTaskIndexComplete()}). It is completed by
+	 * {@link #synchronizeCacheCompletely()} and, if it is activated in the
+	 * configuration, by the periodic synchronization of the {@code Cache}.
+	 * 
+	 * @param locationLatitude The latitude of the location
+	 * @param locationLongitude The longitude of the location
+	 * @param maxResults The maximum number of {@code Task}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @return A {@code ResultSet} with the {@code Task}s
+	 * @throws IllegalStateException If the task index is not activated or
+	 *         not complete
+	 */
+	ResultSet<TaskID, Task> getNearestTasks(double locationLatitude, double locationLongitude, int maxResults, boolean loadCompletely);
+
+	/**
+	 * Returns the current {@link RequestStatistics} of all API operations
+	 * which have been executed so far, which count the requests per status
+	 * code and hold a latency histogram and the payload sizes.
+	 * 
+	 * @return A {@code Map} from the names of the operations to their
+	 *         {@code RequestStatistics}
+	 */
+	Map<String, RequestStatistics> getRequestStatistics();
+
 	/**
 	 * Returns the {@link Task} with the specified {@link TaskID} or
 	 * {@code null} if there is no {@code Task} with the given {@code TaskID}.
@@ -164,7 +272,14 @@ public interface DataManager
 	 * <i>Important:</i> Do not save the returned data or any part of them in an
 	 * own variable, but requery the object, because if a method of the stored
 	 * object will be invoked later, the received data could no longer be
-	 * current.
+	 * current. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> If the {@code List} of tags is empty and the task
+	 * index is complete (see {@link #isTaskIndexComplete()}), the query is
+	 * answered from the local data without a query API call. In this case the
+	 * {@code ResultSet} consists of one single page with all matching
+	 * {@code Task}s, which are ordered by the start of their relevant
+	 * {@code TimeRange}s instead of the order of the API.
 	 * 
 	 * @param tags A {@code List} of tags in {@code String} representation
 	 * @param boundingBox A {@code BoundingBox}
@@ -290,6 +405,23 @@ public interface DataManager
 	 */
 	ResultSet<TaskID, Task> getTasksAfter(DateTime time, boolean loadCompletely);
 
+	/**
+	 * Returns a {@link TaskStream} over the {@link Task}s after the given
+	 * {@link DateTime}. The {@code Task}s are loaded page by page while
+	 * iterating, so that only a bounded number of pages is held in memory.
+	 * 
+	 * @param time The {@code DateTime} after which the {@code Task}s should be
+	 *        returned
+	 * @param loadCompletely {@code true} if the complete {@code Task}s and all
+	 *        of their sub elements should be loaded; {@code false} if it is
+	 *        sufficient when only the meta data of the {@code Task}s will be
+	 *        loaded for the time being
+	 * @param populateCache {@code true} if the loaded {@code Task}s should be
+	 *        put in the {@code Cache}; otherwise {@code false}
+	 * @return A {@code TaskStream} over the {@code Task}s
+	 */
+	TaskStream getTasksAfterAsStream(DateTime time, boolean loadCompletely, boolean populateCache);
+
 	/**
 	 * Returns a {@link ResultSet} with the requested {@link Task}s and the
 	 * mapped {@link TaskID}s. <br/><br/>
@@ -338,4 +470,58 @@ public interface DataManager
 	 *         {@code false}
 	 */
 	boolean isCacheActivated();
+
+	/**
+	 * Determines if the task index is complete. The task index is an
+	 * in-memory index over the relevant areas and the relevant
+	 * {@code TimeRange}s of the {@link Task}s. It is complete after a complete
+	 * synchronization of the {@code Cache}, if it is activated in the
+	 * configuration, and stays complete for the configured maximum age.
+	 * 
+	 * @return {@code true} if the task index is complete; otherwise
+	 *         {@code false}
+	 */
+	boolean isTaskIndexComplete();
+
+	/**
+	 * Unregisters a {@link MetricsListener}.
+	 * 
+	 * @param metricsListener The {@code MetricsListener}
+	 */
+	void removeMetricsListener(MetricsListener metricsListener);
+
+	/**
+	 * Stops the periodic synchronization of the {@code Cache} in the
+	 * background. The {@code Cache} can still be synchronized explicitly. If
+	 * the periodic synchronization is not running, the invocation has no
+	 * effect.
+	 */
+	void stopCacheSynchronization();
+
+	/**
+	 * Synchronizes the {@code Cache} with the API. Only the {@link Task}s which
+	 * have been changed since the previous synchronization are requested, and
+	 * only those which are in the {@code Cache} are reloaded and replace their
+	 * entries. Changed {@code Task}s which are not cached are only loaded into
+	 * the task index, if it is activated. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> If it is activated in the configuration, the
+	 * {@code Cache} is also synchronized periodically in the background until
+	 * {@link #stopCacheSynchronization()} is invoked.
+	 * 
+	 * @return The number of changed {@code Task}s
+	 */
+	int synchronizeCache();
+
+	/**
+	 * Synchronizes the task index completely with the API. All {@link Task}s
+	 * are requested page by page with their meta data and put in the task
+	 * index. The {@code Cache} entries of {@code Task}s which are cached with
+	 * their meta data are replaced; no further {@code Task}s are put in the
+	 * {@code Cache}. Afterwards the task index is complete (if it is
+	 * activated) and the following synchronizations are incremental again.
+	 * 
+	 * @return The number of {@code Task}s
+	 */
+	int synchronizeCacheCompletely();
 }
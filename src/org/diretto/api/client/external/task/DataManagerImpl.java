@@ -4,6 +4,9 @@ import java.net.URL;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import org.diretto.api.client.base.characteristic.Cachable;
 import org.diretto.api.client.base.characteristic.ResultSetManager;
@@ -15,9 +18,7 @@ import org.diretto.api.client.base.data.ResultSetImpl;
 import org.diretto.api.client.base.data.TimeRange;
 import org.diretto.api.client.base.entities.Entity;
 import org.diretto.api.client.base.entities.EntityID;
-import org.diretto.api.client.base.entities.SubEntityID;
 import org.diretto.api.client.base.exceptions.CacheNotActivatedException;
-import org.diretto.api.client.base.exceptions.TooManyEntitiesRequestedException;
 import org.diretto.api.client.base.types.LoadType;
 import org.diretto.api.client.base.types.OrderType;
 import org.diretto.api.client.base.types.VoteType;
@@ -52,8 +53,16 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 	private final int maxTaskRequestSize;
 
 	private CacheManager cacheManager = null;
+	private CacheRefresher cacheRefresher = null;
+	private CacheSynchronizer cacheSynchronizer = null;
+	private ConcurrencyManager concurrencyManager = null;
 	private DataFactory dataFactory = null;
+	private MetricsManager metricsManager = null;
+	private PrefetchManager prefetchManager = null;
 	private ResourceManager resourceManager = null;
+	private TagResolver tagResolver = null;
+	private TaskIndex taskIndex = null;
+	private TaskLoader taskLoader = null;
 
 	private final Cache cache;
 	private final boolean cacheActivated;
@@ -90,6 +99,17 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		}
 
 		cacheActivated = cacheManager.isCacheActivated();
+
+		getMetricsManager();
+		getTagResolver();
+		getTaskIndex();
+		getTaskLoader();
+
+		if(cacheActivated)
+		{
+			getCacheRefresher();
+			getCacheSynchronizer().startScheduledSynchronization();
+		}
 	}
 
 	/**
@@ -115,7 +135,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 	 * 
 	 * @return The corresponding {@code CacheManager}
 	 */
-	CacheManager getCacheManager()
+	synchronized CacheManager getCacheManager()
 	{
 		if(cacheManager == null)
 		{
@@ -125,12 +145,57 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		return cacheManager;
 	}
 
+	/**
+	 * Returns the corresponding {@link CacheRefresher}.
+	 * 
+	 * @return The corresponding {@code CacheRefresher}
+	 */
+	synchronized CacheRefresher getCacheRefresher()
+	{
+		if(cacheRefresher == null)
+		{
+			cacheRefresher = CacheRefresher.getInstance(this);
+		}
+
+		return cacheRefresher;
+	}
+
+	/**
+	 * Returns the corresponding {@link CacheSynchronizer}.
+	 * 
+	 * @return The corresponding {@code CacheSynchronizer}
+	 */
+	synchronized CacheSynchronizer getCacheSynchronizer()
+	{
+		if(cacheSynchronizer == null)
+		{
+			cacheSynchronizer = CacheSynchronizer.getInstance(this);
+		}
+
+		return cacheSynchronizer;
+	}
+
+	/**
+	 * Returns the corresponding {@link ConcurrencyManager}.
+	 * 
+	 * @return The corresponding {@code ConcurrencyManager}
+	 */
+	synchronized ConcurrencyManager getConcurrencyManager()
+	{
+		if(concurrencyManager == null)
+		{
+			concurrencyManager = ConcurrencyManager.getInstance(this);
+		}
+
+		return concurrencyManager;
+	}
+
 	/**
 	 * Returns the corresponding {@link DataFactory}.
 	 * 
 	 * @return The corresponding {@code DataFactory}
 	 */
-	DataFactory getDataFactory()
+	synchronized DataFactory getDataFactory()
 	{
 		if(dataFactory == null)
 		{
@@ -140,6 +205,36 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		return dataFactory;
 	}
 
+	/**
+	 * Returns the corresponding {@link MetricsManager}.
+	 * 
+	 * @return The corresponding {@code MetricsManager}
+	 */
+	synchronized MetricsManager getMetricsManager()
+	{
+		if(metricsManager == null)
+		{
+			metricsManager = MetricsManager.getInstance(this);
+		}
+
+		return metricsManager;
+	}
+
+	/**
+	 * Returns the corresponding {@link PrefetchManager}.
+	 * 
+	 * @return The corresponding {@code PrefetchManager}
+	 */
+	synchronized PrefetchManager getPrefetchManager()
+	{
+		if(prefetchManager == null)
+		{
+			prefetchManager = PrefetchManager.getInstance(this);
+		}
+
+		return prefetchManager;
+	}
+
 	/**
 	 * Returns the corresponding restlet {@link Client}.
 	 * 
@@ -155,7 +250,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 	 * 
 	 * @return The corresponding {@code ResourceManager}
 	 */
-	ResourceManager getResourceManager()
+	synchronized ResourceManager getResourceManager()
 	{
 		if(resourceManager == null)
 		{
@@ -175,6 +270,51 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		return serviceURL;
 	}
 
+	/**
+	 * Returns the corresponding {@link TagResolver}.
+	 * 
+	 * @return The corresponding {@code TagResolver}
+	 */
+	synchronized TagResolver getTagResolver()
+	{
+		if(tagResolver == null)
+		{
+			tagResolver = TagResolver.getInstance(this);
+		}
+
+		return tagResolver;
+	}
+
+	/**
+	 * Returns the corresponding {@link TaskIndex}.
+	 * 
+	 * @return The corresponding {@code TaskIndex}
+	 */
+	synchronized TaskIndex getTaskIndex()
+	{
+		if(taskIndex == null)
+		{
+			taskIndex = TaskIndex.getInstance(this);
+		}
+
+		return taskIndex;
+	}
+
+	/**
+	 * Returns the corresponding {@link TaskLoader}.
+	 * 
+	 * @return The corresponding {@code TaskLoader}
+	 */
+	synchronized TaskLoader getTaskLoader()
+	{
+		if(taskLoader == null)
+		{
+			taskLoader = TaskLoader.getInstance(this);
+		}
+
+		return taskLoader;
+	}
+
 	/**
 	 * Returns the corresponding {@link SystemSession}.
 	 * 
@@ -185,6 +325,17 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		return systemSession;
 	}
 
+	@Override
+	public void addMetricsListener(MetricsListener metricsListener)
+	{
+		if(metricsListener == null)
+		{
+			throw new NullPointerException();
+		}
+
+		getMetricsManager().addMetricsListener(metricsListener);
+	}
+
 	@Override
 	public TaskID createTask(UserSession userSession, String title, String description, BoundingBox relevantArea, TimeRange relevantTimeRange)
 	{
@@ -201,7 +352,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 		if(cacheActivated)
 		{
-			getTask(taskID, true, true);
+			getTaskIndex().put(taskID, relevantArea, relevantTimeRange);
 		}
 
 		return taskID;
@@ -248,10 +399,67 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		ResultSetImpl<TaskID, Task> resultSet = getDataFactory().getAllTasks(loadCompletely);
 
 		putTasksIntoCache(resultSet);
+		getPrefetchManager().startPrefetching(resultSet);
 
 		return resultSet;
 	}
 
+	@Override
+	public TaskStream getAllTasksAsStream(final boolean loadCompletely, boolean populateCache)
+	{
+		return TaskStreamImpl.getInstance(this, new Callable<TaskPage>()
+		{
+			@Override
+			public TaskPage call()
+			{
+				return getDataFactory().getAllTasksPage(loadCompletely);
+			}
+		}, loadCompletely, populateCache);
+	}
+
+	@Override
+	public AsyncTaskService getAsyncTaskService(Executor executor)
+	{
+		if(executor == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return AsyncTaskServiceImpl.getInstance(this, executor);
+	}
+
+	@Override
+	public int getLastCacheSynchronizationChangeCount()
+	{
+		if(cacheActivated)
+		{
+			return getCacheSynchronizer().getLastChangeCount();
+		}
+		else
+		{
+			throw new CacheNotActivatedException();
+		}
+	}
+
+	@Override
+	public DateTime getLastCacheSynchronizationTime()
+	{
+		if(cacheActivated)
+		{
+			return getCacheSynchronizer().getLastSynchronizationTime();
+		}
+		else
+		{
+			throw new CacheNotActivatedException();
+		}
+	}
+
+	@Override
+	public LoadStatistics getLoadStatistics()
+	{
+		return getTaskLoader().getLoadStatistics();
+	}
+
 	@Override
 	public int getMaxTaskRequestSize()
 	{
@@ -266,19 +474,48 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 			throw new NullPointerException();
 		}
 
-		LinkedHashMap<TaskID, Task> resultMap = getDataFactory().getNextPageData(resultSet);
+		LinkedHashMap<TaskID, Task> resultMap;
 
-		if(cacheActivated)
+		if(getPrefetchManager().isPrefetchActivated())
 		{
-			for(Task task : resultMap.values())
-			{
-				cache.put(new Element(task.getID(), task));
-			}
+			// The PrefetchManager puts the pages in the Cache as soon as they arrive.
+			resultMap = getPrefetchManager().getNextPageData(resultSet);
+		}
+		else
+		{
+			resultMap = getDataFactory().getNextPageData(resultSet);
+
+			putTasksIntoCache(resultMap.values());
 		}
 
 		return resultMap;
 	}
 
+	@Override
+	public ResultSet<TaskID, Task> getNearestTasks(double locationLatitude, double locationLongitude, int maxResults, boolean loadCompletely)
+	{
+		if(maxResults < 1)
+		{
+			throw new IllegalArgumentException();
+		}
+		else if(!getTaskIndex().isIndexActivated())
+		{
+			throw new IllegalStateException("The task index is not activated.");
+		}
+		else if(!getTaskIndex().isComplete())
+		{
+			throw new IllegalStateException("The task index is not complete.");
+		}
+
+		return getTasksByIDs(getTaskIndex().getNearestTaskIDs(locationLatitude, locationLongitude, maxResults), loadCompletely, false);
+	}
+
+	@Override
+	public Map<String, RequestStatistics> getRequestStatistics()
+	{
+		return getMetricsManager().getRequestStatistics();
+	}
+
 	@Override
 	public Task getTask(TaskID taskID)
 	{
@@ -307,27 +544,35 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 					if(loadCompletely && !((Cachable) task).isCompletelyLoaded())
 					{
-						task = getDataFactory().getTask(taskID, loadCompletely);
+						getTaskLoader().recordCacheMisses("getTask", 1);
+
+						task = getTaskLoader().getTask(taskID, loadCompletely);
+					}
+					else
+					{
+						getTaskLoader().recordCacheHit("getTask");
 					}
 				}
 				else
 				{
-					task = getDataFactory().getTask(taskID, loadCompletely);
+					getTaskLoader().recordCacheMisses("getTask", 1);
+
+					task = getTaskLoader().getTask(taskID, loadCompletely);
 				}
 			}
 			else
 			{
 				task = getDataFactory().getTask(taskID, loadCompletely);
-			}
 
-			if(task != null)
-			{
-				cache.put(new Element(task.getID(), task));
+				if(task != null)
+				{
+					putTaskIntoCache(task);
+				}
 			}
 		}
 		else
 		{
-			task = getDataFactory().getTask(taskID, loadCompletely);
+			task = getTaskLoader().getTask(taskID, loadCompletely);
 		}
 
 		return task;
@@ -347,9 +592,15 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 			throw new NullPointerException();
 		}
 
+		if(tags.size() == 0 && getTaskIndex().isComplete())
+		{
+			return getTasksByIDs(getTaskIndex().getTaskIDs(boundingBox, timeRange), loadCompletely, false);
+		}
+
 		ResultSetImpl<TaskID, Task> resultSet = getDataFactory().getTasks(tags, boundingBox, timeRange, loadCompletely);
 
 		putTasksIntoCache(resultSet);
+		getPrefetchManager().startPrefetching(resultSet);
 
 		return resultSet;
 	}
@@ -371,6 +622,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		ResultSetImpl<TaskID, Task> resultSet = getDataFactory().getTasks(orderType, boundingBox, loadCompletely);
 
 		putTasksIntoCache(resultSet);
+		getPrefetchManager().startPrefetching(resultSet);
 
 		return resultSet;
 	}
@@ -392,6 +644,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		ResultSetImpl<TaskID, Task> resultSet = getDataFactory().getTasks(orderType, locationLatitude, locationLongitude, loadCompletely);
 
 		putTasksIntoCache(resultSet);
+		getPrefetchManager().startPrefetching(resultSet);
 
 		return resultSet;
 	}
@@ -413,10 +666,29 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		ResultSetImpl<TaskID, Task> resultSet = getDataFactory().getTasksAfter(time, loadCompletely);
 
 		putTasksIntoCache(resultSet);
+		getPrefetchManager().startPrefetching(resultSet);
 
 		return resultSet;
 	}
 
+	@Override
+	public TaskStream getTasksAfterAsStream(final DateTime time, final boolean loadCompletely, boolean populateCache)
+	{
+		if(time == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return TaskStreamImpl.getInstance(this, new Callable<TaskPage>()
+		{
+			@Override
+			public TaskPage call()
+			{
+				return getDataFactory().getTasksAfterPage(time, loadCompletely);
+			}
+		}, loadCompletely, populateCache);
+	}
+
 	@Override
 	public ResultSet<TaskID, Task> getTasksByIDs(List<TaskID> taskIDs)
 	{
@@ -443,10 +715,6 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		{
 			throw new NullPointerException();
 		}
-		else if(taskIDs.size() > maxTaskRequestSize)
-		{
-			throw new TooManyEntitiesRequestedException();
-		}
 		else if(taskIDs.size() == 0)
 		{
 			return ResultSetFactory.getResultSetInstance(null, systemSession, false, loadType, new LinkedHashMap<TaskID, Task>(), null);
@@ -484,6 +752,8 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 						}
 						else
 						{
+							getTaskLoader().recordCacheHit("getTasksByIDs");
+
 							tempMap.put(taskID, task);
 						}
 					}
@@ -495,7 +765,9 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 				if(missingTasks.size() > 0)
 				{
-					tempMap.putAll(getDataFactory().getTasksByIDs(missingTasks, loadCompletely));
+					getTaskLoader().recordCacheMisses("getTasksByIDs", missingTasks.size());
+
+					tempMap.putAll(getTaskLoader().getTasksByIDs(missingTasks, loadCompletely));
 
 					for(TaskID taskID : taskIDs)
 					{
@@ -510,19 +782,19 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 			else
 			{
 				resultMap = getDataFactory().getTasksByIDs(taskIDs, loadCompletely);
-			}
 
-			if(resultMap.size() > 0)
-			{
-				for(Task task : resultMap.values())
+				if(resultMap.size() > 0)
 				{
-					cache.put(new Element(task.getID(), task));
+					for(Task task : resultMap.values())
+					{
+						putTaskIntoCache(task);
+					}
 				}
 			}
 		}
 		else
 		{
-			resultMap = getDataFactory().getTasksByIDs(taskIDs, loadCompletely);
+			resultMap = getTaskLoader().getTasksByIDs(taskIDs, loadCompletely);
 		}
 
 		return ResultSetFactory.getResultSetInstance(null, systemSession, false, loadType, resultMap, null);
@@ -536,7 +808,14 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 			throw new NullPointerException();
 		}
 
-		return getDataFactory().getUserVote(userSession, entityID);
+		VoteType voteType = getDataFactory().getUserVote(userSession, entityID);
+
+		if(cacheActivated)
+		{
+			getCacheRefresher().userVoteLoaded(userSession, entityID, voteType);
+		}
+
+		return voteType;
 	}
 
 	@Override
@@ -545,6 +824,23 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 		return cacheActivated;
 	}
 
+	@Override
+	public boolean isTaskIndexComplete()
+	{
+		return getTaskIndex().isComplete();
+	}
+
+	@Override
+	public void removeMetricsListener(MetricsListener metricsListener)
+	{
+		if(metricsListener == null)
+		{
+			throw new NullPointerException();
+		}
+
+		getMetricsManager().removeMetricsListener(metricsListener);
+	}
+
 	@Override
 	public boolean removeUserVote(UserSession userSession, EntityID entityID)
 	{
@@ -557,22 +853,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 		if(cacheActivated)
 		{
-			TaskID taskID;
-
-			if(entityID instanceof SubEntityID<?, ?>)
-			{
-				@SuppressWarnings("unchecked")
-				SubEntityID<TaskID, ?> subEntityID = (SubEntityID<TaskID, ?>) entityID;
-				taskID = subEntityID.getRootID();
-
-				getTask(taskID, true, true);
-			}
-			else
-			{
-				taskID = (TaskID) entityID;
-
-				getTask(taskID, false, true);
-			}
+			getCacheRefresher().userVoteChanged(userSession, entityID, null, wasSuccessful);
 		}
 
 		return wasSuccessful;
@@ -590,25 +871,45 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 		if(cacheActivated)
 		{
-			TaskID taskID;
+			getCacheRefresher().userVoteChanged(userSession, entityID, voteType, wasSuccessful);
+		}
 
-			if(entityID instanceof SubEntityID<?, ?>)
-			{
-				@SuppressWarnings("unchecked")
-				SubEntityID<TaskID, ?> subEntityID = (SubEntityID<TaskID, ?>) entityID;
-				taskID = subEntityID.getRootID();
+		return wasSuccessful;
+	}
 
-				getTask(taskID, true, true);
-			}
-			else
-			{
-				taskID = (TaskID) entityID;
+	@Override
+	public void stopCacheSynchronization()
+	{
+		if(cacheActivated)
+		{
+			getCacheSynchronizer().stopScheduledSynchronization();
+		}
+	}
 
-				getTask(taskID, false, true);
-			}
+	@Override
+	public int synchronizeCache()
+	{
+		if(cacheActivated)
+		{
+			return getCacheSynchronizer().synchronize();
+		}
+		else
+		{
+			throw new CacheNotActivatedException();
 		}
+	}
 
-		return wasSuccessful;
+	@Override
+	public int synchronizeCacheCompletely()
+	{
+		if(cacheActivated)
+		{
+			return getCacheSynchronizer().synchronizeCompletely();
+		}
+		else
+		{
+			throw new CacheNotActivatedException();
+		}
 	}
 
 	/**
@@ -635,7 +936,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 		if(cacheActivated)
 		{
-			getTask(taskID, true, true);
+			getCacheRefresher().commentAdded(userSession, taskID, commentID, content);
 		}
 
 		return commentID;
@@ -661,7 +962,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 		if(cacheActivated)
 		{
-			getTask(taskID, true, true);
+			getCacheRefresher().submissionAdded(userSession, taskID, submissionID, documentID);
 		}
 
 		return submissionID;
@@ -691,20 +992,7 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 
 		if(cacheActivated)
 		{
-			TaskID taskID;
-
-			if(entityID instanceof SubEntityID<?, ?>)
-			{
-				@SuppressWarnings("unchecked")
-				SubEntityID<TaskID, ?> subEntityID = (SubEntityID<TaskID, ?>) entityID;
-				taskID = subEntityID.getRootID();
-			}
-			else
-			{
-				taskID = (TaskID) entityID;
-			}
-
-			getTask(taskID, true, true);
+			getCacheRefresher().tagAdded(userSession, entityID, tagID, value);
 		}
 
 		return tagID;
@@ -717,14 +1005,39 @@ public final class DataManagerImpl implements DataManager, VoteManager, ResultSe
 	 * 
 	 * @param resultSet The {@code ResultSet} with the {@code Task}s
 	 */
-	private void putTasksIntoCache(ResultSetImpl<TaskID, Task> resultSet)
+	void putTasksIntoCache(ResultSetImpl<TaskID, Task> resultSet)
+	{
+		putTasksIntoCache(resultSet.getLoadedData());
+	}
+
+	/**
+	 * Checks whether the {@code Cache} is activated and in case it is
+	 * activated, all given {@link Task}s will be put in the {@code Cache}.
+	 * 
+	 * @param tasks The {@code Task}s
+	 */
+	void putTasksIntoCache(Iterable<Task> tasks)
 	{
 		if(cacheActivated)
 		{
-			for(Task task : resultSet.getLoadedData())
+			for(Task task : tasks)
 			{
-				cache.put(new Element(task.getID(), task));
+				putTaskIntoCache(task);
 			}
 		}
 	}
+
+	/**
+	 * Puts the given {@link Task} in the {@code Cache} and in the
+	 * {@link TaskIndex}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The {@code Cache} has to be activated.
+	 * 
+	 * @param task The {@code Task}
+	 */
+	private void putTaskIntoCache(Task task)
+	{
+		cache.put(new Element(task.getID(), task));
+		getTaskIndex().put(task);
+	}
 }
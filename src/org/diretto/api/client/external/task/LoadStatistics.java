@@ -0,0 +1,141 @@
+package org.diretto.api.client.external.task;
+
+import org.diretto.api.client.external.task.entities.Task;
+
+/**
+ * {@code LoadStatistics} are a snapshot of the counters of the {@link Task}
+ * loads of a {@link DataManager}. The counters are accumulated since the
+ * creation of the {@code DataManager}.
+ * 
+ * @author Tobias Schlecht
+ */
+public final class LoadStatistics
+{
+	private final long cacheHits;
+	private final long cacheMisses;
+	private final long coalescedWaits;
+	private final long batchRequests;
+	private final long batchedTasks;
+	private final int maxTaskRequestSize;
+
+	/**
+	 * Constructs {@link LoadStatistics}.
+	 * 
+	 * @param cacheHits The number of {@code Cache} hits
+	 * @param cacheMisses The number of {@code Cache} misses
+	 * @param coalescedWaits The number of waits for outstanding loads
+	 * @param batchRequests The number of batch requests
+	 * @param batchedTasks The number of {@code Task}s loaded with batch
+	 *        requests
+	 * @param maxTaskRequestSize The maximum value of {@code Task}s which can
+	 *        be requested with one batch request
+	 */
+	LoadStatistics(long cacheHits, long cacheMisses, long coalescedWaits, long batchRequests, long batchedTasks, int maxTaskRequestSize)
+	{
+		this.cacheHits = cacheHits;
+		this.cacheMisses = cacheMisses;
+		this.coalescedWaits = coalescedWaits;
+		this.batchRequests = batchRequests;
+		this.batchedTasks = batchedTasks;
+		this.maxTaskRequestSize = maxTaskRequestSize;
+	}
+
+	/**
+	 * Returns the number of {@link Task}s which have been found in the
+	 * {@code Cache}.
+	 * 
+	 * @return The number of {@code Cache} hits
+	 */
+	public long getCacheHits()
+	{
+		return cacheHits;
+	}
+
+	/**
+	 * Returns the number of {@link Task}s which have not been found in the
+	 * {@code Cache} (or only with their meta data, although the complete
+	 * {@code Task} has been requested).
+	 * 
+	 * @return The number of {@code Cache} misses
+	 */
+	public long getCacheMisses()
+	{
+		return cacheMisses;
+	}
+
+	/**
+	 * Returns the ratio of the {@code Cache} hits to all {@code Cache}
+	 * accesses. If there has been no {@code Cache} access so far, {@code 0} is
+	 * returned.
+	 * 
+	 * @return The {@code Cache} hit rate between {@code 0} and {@code 1}
+	 */
+	public double getCacheHitRate()
+	{
+		long cacheAccesses = cacheHits + cacheMisses;
+
+		if(cacheAccesses == 0)
+		{
+			return 0.0d;
+		}
+
+		return (double) cacheHits / cacheAccesses;
+	}
+
+	/**
+	 * Returns the number of {@link Task} requests which have been served by
+	 * waiting for an outstanding load instead of loading the {@code Task}
+	 * again.
+	 * 
+	 * @return The number of coalesced waits
+	 */
+	public long getCoalescedWaits()
+	{
+		return coalescedWaits;
+	}
+
+	/**
+	 * Returns the number of batch requests which have been sent to the API.
+	 * 
+	 * @return The number of batch requests
+	 */
+	public long getBatchRequests()
+	{
+		return batchRequests;
+	}
+
+	/**
+	 * Returns the number of {@link Task}s which have been loaded with batch
+	 * requests.
+	 * 
+	 * @return The number of batched {@code Task}s
+	 */
+	public long getBatchedTasks()
+	{
+		return batchedTasks;
+	}
+
+	/**
+	 * Returns the average fill ratio of the batch requests, which is the
+	 * number of batched {@link Task}s divided by the capacity of all batch
+	 * requests. If there has been no batch request so far, {@code 0} is
+	 * returned.
+	 * 
+	 * @return The fill ratio between {@code 0} and {@code 1}
+	 */
+	public double getBatchFillRatio()
+	{
+		if(batchRequests == 0 || maxTaskRequestSize <= 0)
+		{
+			return 0.0d;
+		}
+
+		return (double) batchedTasks / ((double) batchRequests * maxTaskRequestSize);
+	}
+
+	@Override
+	public String toString()
+	{
+		return "LoadStatistics[cacheHits=" + cacheHits + ", cacheMisses=" + cacheMisses + ", cacheHitRate=" + getCacheHitRate() + ", coalescedWaits=" + coalescedWaits + ", batchRequests=" + batchRequests + ", batchedTasks=" + batchedTasks + ", batchFillRatio=" + getBatchFillRatio() + "]";
+	}
+}
@@ -0,0 +1,43 @@
+package org.diretto.api.client.external.task;
+
+import org.diretto.api.client.external.task.entities.Task;
+
+/**
+ * This interface represents a {@code MetricsListener}. <br/><br/>
+ * 
+ * A {@code MetricsListener} is notified about every API request and every
+ * {@code Cache} access of a {@link DataManager}, so that the measurements can
+ * be handed over to an arbitrary metrics system. <br/><br/>
+ * 
+ * <i>Annotation:</i> The methods are invoked by the {@code Thread} which has
+ * executed the request, so the implementations should return quickly and must
+ * not block.
+ * 
+ * @author Tobias Schlecht
+ */
+public interface MetricsListener
+{
+	/**
+	 * Is invoked when an API request has been completed.
+	 * 
+	 * @param operation The name of the operation (e.g.
+	 *        {@code "getSnapShotTask"})
+	 * @param statusCode The status code of the response or {@code 0} if the
+	 *        request has failed without a status code
+	 * @param latency The latency of the request in nanoseconds
+	 * @param payloadSize The size of the response entity in bytes or
+	 *        {@code -1} if it is unknown
+	 */
+	void requestCompleted(String operation, int statusCode, long latency, long payloadSize);
+
+	/**
+	 * Is invoked when {@link Task}s have been requested from the
+	 * {@code Cache}.
+	 * 
+	 * @param operation The name of the read operation of the
+	 *        {@link DataManager} (e.g. {@code "getTask"})
+	 * @param hits The number of {@code Task}s found in the {@code Cache}
+	 * @param misses The number of {@code Task}s not found in the {@code Cache}
+	 */
+	void cacheAccessed(String operation, int hits, int misses);
+}
@@ -0,0 +1,252 @@
+package org.diretto.api.client.external.task;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code MetricsManager} is responsible for the measurements of the API
+ * requests. The measurements are aggregated per operation and handed over to
+ * the registered {@link MetricsListener}s. <br/><br/>
+ * 
+ * <i>Annotation:</i> The {@code Cache} accesses are only handed over to the
+ * {@code MetricsListener}s. They are counted by the {@link TaskLoader} and
+ * reported with the {@link LoadStatistics}.
+ * 
+ * @author Tobias Schlecht
+ */
+final class MetricsManager
+{
+	private static final Logger LOGGER = Logger.getLogger(MetricsManager.class.getName());
+
+	private final List<MetricsListener> metricsListeners = new CopyOnWriteArrayList<MetricsListener>();
+	private final ConcurrentMap<String, OperationMetrics> operationMetrics = new ConcurrentHashMap<String, OperationMetrics>();
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 */
+	private MetricsManager()
+	{
+	}
+
+	/**
+	 * Returns a {@link MetricsManager} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code MetricsManager} instance
+	 */
+	static synchronized MetricsManager getInstance(DataManagerImpl dataManager)
+	{
+		return new MetricsManager();
+	}
+
+	/**
+	 * Registers the given {@link MetricsListener}.
+	 * 
+	 * @param metricsListener The {@code MetricsListener}
+	 */
+	void addMetricsListener(MetricsListener metricsListener)
+	{
+		metricsListeners.add(metricsListener);
+	}
+
+	/**
+	 * Unregisters the given {@link MetricsListener}.
+	 * 
+	 * @param metricsListener The {@code MetricsListener}
+	 */
+	void removeMetricsListener(MetricsListener metricsListener)
+	{
+		metricsListeners.remove(metricsListener);
+	}
+
+	/**
+	 * Records a completed API request.
+	 * 
+	 * @param operation The name of the operation
+	 * @param statusCode The status code of the response or {@code 0} if the
+	 *        request has failed without a status code
+	 * @param latency The latency of the request in nanoseconds
+	 * @param payloadSize The size of the response entity in bytes or
+	 *        {@code -1} if it is unknown
+	 */
+	void requestCompleted(String operation, int statusCode, long latency, long payloadSize)
+	{
+		getOperationMetrics(operation).record(statusCode, latency, payloadSize);
+
+		for(MetricsListener metricsListener : metricsListeners)
+		{
+			try
+			{
+				metricsListener.requestCompleted(operation, statusCode, latency, payloadSize);
+			}
+			catch(RuntimeException e)
+			{
+				LOGGER.log(Level.WARNING, "A MetricsListener has failed.", e);
+			}
+		}
+	}
+
+	/**
+	 * Notifies the registered {@link MetricsListener}s about an access to the
+	 * {@code Cache}.
+	 * 
+	 * @param operation The name of the read operation
+	 * @param hits The number of hits
+	 * @param misses The number of misses
+	 */
+	void cacheAccessed(String operation, int hits, int misses)
+	{
+		for(MetricsListener metricsListener : metricsListeners)
+		{
+			try
+			{
+				metricsListener.cacheAccessed(operation, hits, misses);
+			}
+			catch(RuntimeException e)
+			{
+				LOGGER.log(Level.WARNING, "A MetricsListener has failed.", e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the current {@link RequestStatistics} of all operations.
+	 * 
+	 * @return A {@code Map} from the names of the operations to their
+	 *         {@code RequestStatistics}
+	 */
+	Map<String, RequestStatistics> getRequestStatistics()
+	{
+		Map<String, RequestStatistics> requestStatistics = new TreeMap<String, RequestStatistics>();
+
+		for(Map.Entry<String, OperationMetrics> entry : operationMetrics.entrySet())
+		{
+			requestStatistics.put(entry.getKey(), entry.getValue().getRequestStatistics(entry.getKey()));
+		}
+
+		return requestStatistics;
+	}
+
+	/**
+	 * Returns the {@link OperationMetrics} of the given operation. If there
+	 * are none so far, they are created.
+	 * 
+	 * @param operation The name of the operation
+	 * @return The {@code OperationMetrics}
+	 */
+	private OperationMetrics getOperationMetrics(String operation)
+	{
+		OperationMetrics metrics = operationMetrics.get(operation);
+
+		if(metrics == null)
+		{
+			OperationMetrics newMetrics = new OperationMetrics();
+
+			metrics = operationMetrics.putIfAbsent(operation, newMetrics);
+
+			if(metrics == null)
+			{
+				metrics = newMetrics;
+			}
+		}
+
+		return metrics;
+	}
+
+	/**
+	 * The {@code OperationMetrics} hold the aggregated measurements of one
+	 * operation.
+	 */
+	private static final class OperationMetrics
+	{
+		private final AtomicLong requestCount = new AtomicLong();
+		private final AtomicLong errorCount = new AtomicLong();
+		private final ConcurrentMap<Integer, AtomicLong> statusCodeCounts = new ConcurrentHashMap<Integer, AtomicLong>();
+		private final AtomicLongArray latencyHistogram = new AtomicLongArray(RequestStatistics.getLatencyBucketCount());
+		private final AtomicLong totalLatency = new AtomicLong();
+		private final AtomicLong payloadCount = new AtomicLong();
+		private final AtomicLong totalPayloadSize = new AtomicLong();
+
+		/**
+		 * Records one request.
+		 * 
+		 * @param statusCode The status code of the response
+		 * @param latency The latency of the request in nanoseconds
+		 * @param payloadSize The size of the response entity in bytes or
+		 *        {@code -1} if it is unknown
+		 */
+		void record(int statusCode, long latency, long payloadSize)
+		{
+			requestCount.incrementAndGet();
+
+			if(statusCode < 200 || statusCode >= 400)
+			{
+				errorCount.incrementAndGet();
+			}
+
+			Integer key = Integer.valueOf(statusCode);
+			AtomicLong statusCodeCount = statusCodeCounts.get(key);
+
+			if(statusCodeCount == null)
+			{
+				AtomicLong newStatusCodeCount = new AtomicLong();
+
+				statusCodeCount = statusCodeCounts.putIfAbsent(key, newStatusCodeCount);
+
+				if(statusCodeCount == null)
+				{
+					statusCodeCount = newStatusCodeCount;
+				}
+			}
+
+			statusCodeCount.incrementAndGet();
+
+			latencyHistogram.incrementAndGet(RequestStatistics.getLatencyBucket(latency));
+			totalLatency.addAndGet(latency);
+
+			if(payloadSize >= 0)
+			{
+				payloadCount.incrementAndGet();
+				totalPayloadSize.addAndGet(payloadSize);
+			}
+		}
+
+		/**
+		 * Returns a snapshot of the measurements.
+		 * 
+		 * @param operation The name of the operation
+		 * @return The {@code RequestStatistics}
+		 */
+		RequestStatistics getRequestStatistics(String operation)
+		{
+			Map<Integer, Long> statusCodeCountsSnapshot = new HashMap<Integer, Long>();
+
+			for(Map.Entry<Integer, AtomicLong> entry : statusCodeCounts.entrySet())
+			{
+				statusCodeCountsSnapshot.put(entry.getKey(), Long.valueOf(entry.getValue().get()));
+			}
+
+			long[] latencyHistogramSnapshot = new long[latencyHistogram.length()];
+
+			for(int i = 0; i < latencyHistogramSnapshot.length; i++)
+			{
+				latencyHistogramSnapshot[i] = latencyHistogram.get(i);
+			}
+
+			return new RequestStatistics(operation, requestCount.get(), errorCount.get(), statusCodeCountsSnapshot, latencyHistogramSnapshot, totalLatency.get(), payloadCount.get(), totalPayloadSize.get());
+		}
+	}
+}
@@ -0,0 +1,461 @@
+package org.diretto.api.client.external.task;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.base.data.ResultSet;
+import org.diretto.api.client.base.data.ResultSetImpl;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+
+/**
+ * The {@code PrefetchManager} is responsible for the read-ahead of result
+ * pages. As soon as a page of a {@link ResultSet} has been handed out, the
+ * following pages (including their {@link Task}s) are loaded in the
+ * background up to the configured depth. The {@code Task}s of a prefetched
+ * page are put in the {@code Cache} as soon as the page arrives, so that other
+ * requests benefit before the page is handed out. <br/><br/>
+ * 
+ * <i>Annotation:</i> The {@code PrefetchManager} only holds weak references to
+ * the {@code ResultSet}s. If a {@code ResultSet} is abandoned, its pending
+ * prefetches are cancelled.
+ * 
+ * @author Tobias Schlecht
+ */
+final class PrefetchManager
+{
+	private final DataManagerImpl dataManager;
+
+	private final boolean prefetchActivated;
+	private final int prefetchDepth;
+
+	private final Map<ResultSetReference, Prefetch> prefetches = new HashMap<ResultSetReference, Prefetch>();
+	private final ReferenceQueue<ResultSetImpl<TaskID, Task>> referenceQueue = new ReferenceQueue<ResultSetImpl<TaskID, Task>>();
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 */
+	private PrefetchManager(DataManagerImpl dataManager)
+	{
+		this.dataManager = dataManager;
+
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		prefetchActivated = xmlConfiguration.getBoolean("prefetch/prefetch-activated", false);
+		prefetchDepth = Math.max(1, xmlConfiguration.getInt("prefetch/prefetch-depth", 1));
+	}
+
+	/**
+	 * Returns a {@link PrefetchManager} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code PrefetchManager} instance
+	 */
+	static synchronized PrefetchManager getInstance(DataManagerImpl dataManager)
+	{
+		return new PrefetchManager(dataManager);
+	}
+
+	/**
+	 * Determines if the prefetching is activated.
+	 * 
+	 * @return {@code true} if the prefetching is activated; otherwise
+	 *         {@code false}
+	 */
+	boolean isPrefetchActivated()
+	{
+		return prefetchActivated;
+	}
+
+	/**
+	 * Starts the prefetching of the pages following the current page of the
+	 * given {@link ResultSet}. If the prefetching is not activated or if there
+	 * is no next page, the invocation has no effect.
+	 * 
+	 * @param resultSet The {@code ResultSet}
+	 */
+	void startPrefetching(ResultSetImpl<TaskID, Task> resultSet)
+	{
+		if(!prefetchActivated || resultSet.getNextPageURL() == null)
+		{
+			return;
+		}
+
+		Prefetch prefetch = new Prefetch(resultSet.isQueryResultSet(), resultSet.getLoadCompletelyStatus());
+
+		synchronized(prefetches)
+		{
+			expungeAbandonedResultSets();
+
+			Prefetch previousPrefetch = prefetches.put(new ResultSetReference(resultSet, referenceQueue), prefetch);
+
+			if(previousPrefetch != null)
+			{
+				previousPrefetch.cancel();
+			}
+		}
+
+		prefetch.fill(resultSet.getNextPageURL());
+	}
+
+	/**
+	 * Returns the data of the next page of the given {@link ResultSet} and
+	 * advances the {@code ResultSet} to the following page. If the next page
+	 * has been prefetched, the prefetched data are returned; otherwise the page
+	 * is loaded directly and its {@link Task}s are put in the {@code Cache}.
+	 * 
+	 * @param resultSet The {@code ResultSet}
+	 * @return The data of the next page
+	 */
+	LinkedHashMap<TaskID, Task> getNextPageData(ResultSetImpl<TaskID, Task> resultSet)
+	{
+		Prefetch prefetch;
+
+		synchronized(prefetches)
+		{
+			expungeAbandonedResultSets();
+
+			prefetch = prefetches.get(new ResultSetReference(resultSet, null));
+		}
+
+		TaskPage taskPage = null;
+
+		if(prefetch != null)
+		{
+			taskPage = prefetch.take(resultSet.getNextPageURL());
+		}
+
+		if(taskPage == null)
+		{
+			taskPage = dataManager.getDataFactory().getPage(resultSet.getNextPageURL(), resultSet.isQueryResultSet(), resultSet.getLoadCompletelyStatus());
+
+			dataManager.putTasksIntoCache(taskPage.getTasks().values());
+		}
+
+		resultSet.setNextPageURL(taskPage.getNextPageURL());
+
+		if(taskPage.getNextPageURL() == null)
+		{
+			stopPrefetching(resultSet);
+		}
+		else if(prefetch != null)
+		{
+			prefetch.fill(taskPage.getNextPageURL());
+		}
+		else
+		{
+			startPrefetching(resultSet);
+		}
+
+		return taskPage.getTasks();
+	}
+
+	/**
+	 * Stops the prefetching for the given {@link ResultSet} and cancels all of
+	 * its pending prefetches.
+	 * 
+	 * @param resultSet The {@code ResultSet}
+	 */
+	void stopPrefetching(ResultSetImpl<TaskID, Task> resultSet)
+	{
+		Prefetch prefetch;
+
+		synchronized(prefetches)
+		{
+			prefetch = prefetches.remove(new ResultSetReference(resultSet, null));
+		}
+
+		if(prefetch != null)
+		{
+			prefetch.cancel();
+		}
+	}
+
+	/**
+	 * Cancels the prefetches of all {@link ResultSet}s which have been garbage
+	 * collected in the meantime. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The invoking {@code Thread} must hold the lock of the
+	 * prefetch {@code Map}.
+	 */
+	private void expungeAbandonedResultSets()
+	{
+		Reference<? extends ResultSetImpl<TaskID, Task>> reference;
+
+		while((reference = referenceQueue.poll()) != null)
+		{
+			Prefetch prefetch = prefetches.remove(reference);
+
+			if(prefetch != null)
+			{
+				prefetch.cancel();
+			}
+		}
+	}
+
+	/**
+	 * A {@code Prefetch} holds the pending pages of one {@link ResultSet} in
+	 * page order.
+	 */
+	private final class Prefetch
+	{
+		private final boolean isQueryResultSet;
+		private final boolean loadCompletely;
+
+		private final LinkedList<PendingPage> pendingPages = new LinkedList<PendingPage>();
+
+		private boolean cancelled = false;
+
+		/**
+		 * Constructs a {@link Prefetch}.
+		 * 
+		 * @param isQueryResultSet {@code true} if the pages are query result
+		 *        pages; otherwise {@code false}
+		 * @param loadCompletely {@code true} if the complete {@code Task}s
+		 *        should be loaded; otherwise {@code false}
+		 */
+		Prefetch(boolean isQueryResultSet, boolean loadCompletely)
+		{
+			this.isQueryResultSet = isQueryResultSet;
+			this.loadCompletely = loadCompletely;
+		}
+
+		/**
+		 * Tops up the pending pages until the configured depth is reached. If
+		 * nothing is pending, the page with the given {@link URL} is scheduled;
+		 * otherwise the page following the last pending page is scheduled as
+		 * soon as its {@code URL} is known. The further pages are scheduled by
+		 * the completed prefetches themselves.
+		 * 
+		 * @param pageURL The {@code URL} of the next page
+		 */
+		synchronized void fill(URL pageURL)
+		{
+			if(pendingPages.isEmpty())
+			{
+				schedule(pageURL);
+			}
+			else if(pendingPages.getLast().loaded)
+			{
+				schedule(pendingPages.getLast().nextPageURL);
+			}
+		}
+
+		/**
+		 * Removes the prefetched page with the given {@link URL} from the queue
+		 * and returns it. If the page has not been prefetched or the prefetch
+		 * has failed, {@code null} is returned and the caller loads the page
+		 * directly. A failed prefetch does not stop the prefetching, because
+		 * the next invocation of {@link #fill(URL)} starts over.
+		 * 
+		 * @param pageURL The {@code URL} of the requested page
+		 * @return The prefetched {@code TaskPage} or {@code null}
+		 */
+		TaskPage take(URL pageURL)
+		{
+			PendingPage pendingPage;
+
+			synchronized(this)
+			{
+				pendingPage = pendingPages.peek();
+
+				if(pendingPage == null || !pendingPage.pageURL.toExternalForm().equals(pageURL.toExternalForm()))
+				{
+					discardPendingPages();
+
+					return null;
+				}
+
+				pendingPages.removeFirst();
+			}
+
+			try
+			{
+				return pendingPage.future.get();
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			catch(ExecutionException e)
+			{
+				synchronized(this)
+				{
+					discardPendingPages();
+				}
+
+				return null;
+			}
+			catch(CancellationException e)
+			{
+				return null;
+			}
+		}
+
+		/**
+		 * Cancels all pending prefetches.
+		 */
+		synchronized void cancel()
+		{
+			cancelled = true;
+
+			discardPendingPages();
+		}
+
+		/**
+		 * Cancels and removes all pending pages. Prefetches which are already
+		 * running are interrupted and their results are ignored. <br/><br/>
+		 * 
+		 * <i>Annotation:</i> The invoking {@code Thread} must hold the lock of
+		 * this object.
+		 */
+		private void discardPendingPages()
+		{
+			for(PendingPage pendingPage : pendingPages)
+			{
+				pendingPage.future.cancel(true);
+			}
+
+			pendingPages.clear();
+		}
+
+		/**
+		 * Schedules the prefetch of the page with the given {@link URL}.
+		 * <br/><br/>
+		 * 
+		 * <i>Annotation:</i> The invoking {@code Thread} must hold the lock of
+		 * this object.
+		 * 
+		 * @param pageURL The {@code URL} of the page
+		 */
+		private void schedule(final URL pageURL)
+		{
+			if(cancelled || pageURL == null || pendingPages.size() >= prefetchDepth)
+			{
+				return;
+			}
+
+			final PendingPage pendingPage = new PendingPage(pageURL);
+
+			FutureTask<TaskPage> future = new FutureTask<TaskPage>(new Callable<TaskPage>()
+			{
+				@Override
+				public TaskPage call()
+				{
+					TaskPage taskPage = dataManager.getDataFactory().getPage(pageURL, isQueryResultSet, loadCompletely);
+
+					synchronized(Prefetch.this)
+					{
+						// A discarded page must neither be cached nor schedule any following pages.
+						if(pendingPages.contains(pendingPage))
+						{
+							dataManager.putTasksIntoCache(taskPage.getTasks().values());
+
+							pendingPage.nextPageURL = taskPage.getNextPageURL();
+							pendingPage.loaded = true;
+
+							schedule(pendingPage.nextPageURL);
+						}
+					}
+
+					return taskPage;
+				}
+			});
+
+			pendingPage.future = future;
+			pendingPages.add(pendingPage);
+
+			dataManager.getConcurrencyManager().getBackgroundExecutor().execute(future);
+		}
+	}
+
+	/**
+	 * A {@code PendingPage} is a scheduled prefetch of one page. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The mutable fields are guarded by the lock of the
+	 * corresponding {@code Prefetch}.
+	 */
+	private static final class PendingPage
+	{
+		private final URL pageURL;
+
+		private Future<TaskPage> future = null;
+		private boolean loaded = false;
+		private URL nextPageURL = null;
+
+		/**
+		 * Constructs a {@link PendingPage}.
+		 * 
+		 * @param pageURL The {@code URL} of the page
+		 */
+		PendingPage(URL pageURL)
+		{
+			this.pageURL = pageURL;
+		}
+	}
+
+	/**
+	 * A {@code ResultSetReference} is a weak reference to a {@link ResultSet}
+	 * which compares the referenced {@code ResultSet}s by identity.
+	 */
+	private static final class ResultSetReference extends WeakReference<ResultSetImpl<TaskID, Task>>
+	{
+		private final int hashCode;
+
+		/**
+		 * Constructs a {@link ResultSetReference}.
+		 * 
+		 * @param resultSet The {@code ResultSet}
+		 * @param referenceQueue The {@code ReferenceQueue} or {@code null} if
+		 *        the reference only serves as lookup key
+		 */
+		ResultSetReference(ResultSetImpl<TaskID, Task> resultSet, ReferenceQueue<ResultSetImpl<TaskID, Task>> referenceQueue)
+		{
+			super(resultSet, referenceQueue);
+
+			hashCode = System.identityHashCode(resultSet);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			if(this == object)
+			{
+				return true;
+			}
+			else if(!(object instanceof ResultSetReference))
+			{
+				return false;
+			}
+
+			Object referent = get();
+
+			return referent != null && referent == ((ResultSetReference) object).get();
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package org.diretto.api.client.external.task;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@code RequestStatistics} are a snapshot of the measurements of one API
+ * operation of a {@link DataManager}. The measurements are accumulated since
+ * the creation of the {@code DataManager}.
+ * 
+ * @author Tobias Schlecht
+ */
+public final class RequestStatistics
+{
+	private static final long[] LATENCY_BUCKET_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+	private final String operation;
+	private final long requestCount;
+	private final long errorCount;
+	private final Map<Integer, Long> statusCodeCounts;
+	private final long[] latencyHistogram;
+	private final long totalLatency;
+	private final long payloadCount;
+	private final long totalPayloadSize;
+
+	/**
+	 * Constructs {@link RequestStatistics}.
+	 * 
+	 * @param operation The name of the operation
+	 * @param requestCount The number of requests
+	 * @param errorCount The number of failed requests
+	 * @param statusCodeCounts The number of requests per status code
+	 * @param latencyHistogram The number of requests per latency bucket
+	 * @param totalLatency The sum of the latencies in nanoseconds
+	 * @param payloadCount The number of responses with a known entity size
+	 * @param totalPayloadSize The sum of the known entity sizes in bytes
+	 */
+	RequestStatistics(String operation, long requestCount, long errorCount, Map<Integer, Long> statusCodeCounts, long[] latencyHistogram, long totalLatency, long payloadCount, long totalPayloadSize)
+	{
+		this.operation = operation;
+		this.requestCount = requestCount;
+		this.errorCount = errorCount;
+		this.statusCodeCounts = Collections.unmodifiableMap(statusCodeCounts);
+		this.latencyHistogram = latencyHistogram;
+		this.totalLatency = totalLatency;
+		this.payloadCount = payloadCount;
+		this.totalPayloadSize = totalPayloadSize;
+	}
+
+	/**
+	 * Returns the upper bounds of the latency buckets in milliseconds. The
+	 * last bucket of the histogram has no upper bound.
+	 * 
+	 * @return The upper bounds of the latency buckets
+	 */
+	public static long[] getLatencyBucketBounds()
+	{
+		return LATENCY_BUCKET_BOUNDS.clone();
+	}
+
+	/**
+	 * Returns the index of the latency bucket for the given latency.
+	 * 
+	 * @param latency The latency in nanoseconds
+	 * @return The index of the latency bucket
+	 */
+	static int getLatencyBucket(long latency)
+	{
+		long latencyMillis = latency / 1000000L;
+
+		for(int i = 0; i < LATENCY_BUCKET_BOUNDS.length; i++)
+		{
+			if(latencyMillis < LATENCY_BUCKET_BOUNDS[i])
+			{
+				return i;
+			}
+		}
+
+		return LATENCY_BUCKET_BOUNDS.length;
+	}
+
+	/**
+	 * Returns the number of latency buckets.
+	 * 
+	 * @return The number of latency buckets
+	 */
+	static int getLatencyBucketCount()
+	{
+		return LATENCY_BUCKET_BOUNDS.length + 1;
+	}
+
+	/**
+	 * Returns the name of the operation.
+	 * 
+	 * @return The name of the operation
+	 */
+	public String getOperation()
+	{
+		return operation;
+	}
+
+	/**
+	 * Returns the number of requests.
+	 * 
+	 * @return The number of requests
+	 */
+	public long getRequestCount()
+	{
+		return requestCount;
+	}
+
+	/**
+	 * Returns the number of requests which have not been answered with a
+	 * success or redirection status code.
+	 * 
+	 * @return The number of failed requests
+	 */
+	public long getErrorCount()
+	{
+		return errorCount;
+	}
+
+	/**
+	 * Returns the number of requests per status code.
+	 * 
+	 * @return A {@code Map} from the status codes to the number of requests
+	 */
+	public Map<Integer, Long> getStatusCodeCounts()
+	{
+		return statusCodeCounts;
+	}
+
+	/**
+	 * Returns the number of requests per latency bucket. The bounds of the
+	 * buckets are returned by {@link #getLatencyBucketBounds()}.
+	 * 
+	 * @return The latency histogram
+	 */
+	public long[] getLatencyHistogram()
+	{
+		return latencyHistogram.clone();
+	}
+
+	/**
+	 * Returns the average latency of the requests in milliseconds. If there
+	 * has been no request so far, {@code 0} is returned.
+	 * 
+	 * @return The average latency in milliseconds
+	 */
+	public double getAverageLatency()
+	{
+		if(requestCount == 0)
+		{
+			return 0.0d;
+		}
+
+		return totalLatency / 1000000.0d / requestCount;
+	}
+
+	/**
+	 * Returns the sum of the known response entity sizes in bytes.
+	 * 
+	 * @return The total payload size in bytes
+	 */
+	public long getTotalPayloadSize()
+	{
+		return totalPayloadSize;
+	}
+
+	/**
+	 * Returns the average size of the response entities with a known size in
+	 * bytes. If there has been no such response so far, {@code 0} is returned.
+	 * 
+	 * @return The average payload size in bytes
+	 */
+	public double getAveragePayloadSize()
+	{
+		if(payloadCount == 0)
+		{
+			return 0.0d;
+		}
+
+		return (double) totalPayloadSize / payloadCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "RequestStatistics[operation=" + operation + ", requestCount=" + requestCount + ", errorCount=" + errorCount + ", statusCodeCounts=" + statusCodeCounts + ", averageLatency=" + getAverageLatency() + ", averagePayloadSize=" + getAveragePayloadSize() + "]";
+	}
+}
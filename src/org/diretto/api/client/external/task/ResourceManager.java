@@ -1,6 +1,8 @@
 package org.diretto.api.client.external.task;
 
 import java.net.URL;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.diretto.api.client.base.data.BoundingBox;
 import org.diretto.api.client.base.entities.Entity;
@@ -43,6 +45,7 @@ import org.diretto.api.client.user.User;
 import org.diretto.api.client.user.UserFactory;
 import org.joda.time.DateTime;
 import org.restlet.Client;
+import org.restlet.Response;
 import org.restlet.data.Reference;
 import org.restlet.resource.ClientResource;
 import org.restlet.resource.ResourceException;
@@ -56,9 +59,12 @@ import org.restlet.resource.ResourceException;
  */
 final class ResourceManager
 {
+	private static final Logger LOGGER = Logger.getLogger(ResourceManager.class.getName());
+
 	private final URL serviceURL;
 	private final Client restletClient;
 	private final SystemSession systemSession;
+	private final MetricsManager metricsManager;
 
 	/**
 	 * The constructor is {@code private} to have strict control what instances
@@ -73,6 +79,7 @@ final class ResourceManager
 		serviceURL = dataManager.getServiceURL();
 		restletClient = dataManager.getResletClient();
 		systemSession = dataManager.getSystemSession();
+		metricsManager = dataManager.getMetricsManager();
 	}
 
 	/**
@@ -100,15 +107,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(userSession, taskID.getUniqueResourceURL(), "comments");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.post(commentCreationResource);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("addCommentToTask", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("addCommentToTask", e, startTime);
+			throw e;
+		}
+
+		recordRequest("addCommentToTask", clientResource, startTime);
 
 		return CoreServiceEntityIDFactory.getCommentIDInstance(clientResource.getResponse().getLocationRef().toUrl(), taskID, taskID);
 	}
@@ -126,15 +142,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(userSession, taskID.getUniqueResourceURL(), "submissions");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.post(submissionCreationResource);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("addSubmissionToTask", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("addSubmissionToTask", e, startTime);
+			throw e;
+		}
+
+		recordRequest("addSubmissionToTask", clientResource, startTime);
 
 		return TaskServiceEntityIDFactory.getSubmissionIDInstance(clientResource.getResponse().getLocationRef().toUrl(), taskID, taskID);
 	}
@@ -154,27 +179,45 @@ final class ResourceManager
 
 		BaseTagResource baseTagResource;
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			baseTagResource = clientResource.post(tagCreationResource, BaseTagResource.class);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("createTag", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("createTag", e, startTime);
+			throw e;
+		}
+
+		recordRequest("createTag", clientResource, startTime);
 
 		clientResource = createClientResource(userSession, entityID.getUniqueResourceURL(), "tags");
 
+		startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.post(baseTagResource);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("addTagToEntity", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("addTagToEntity", e, startTime);
+			throw e;
+		}
+
+		recordRequest("addTagToEntity", clientResource, startTime);
 
 		if(entityID instanceof SubEntityID<?, ?>)
 		{
@@ -201,15 +244,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(userSession, "tasks");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.post(taskCreationResource);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("createTask", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("createTask", e, startTime);
+			throw e;
+		}
+
+		recordRequest("createTask", clientResource, startTime);
 
 		return TaskServiceEntityIDFactory.getTaskIDInstance(clientResource.getResponse().getLocationRef().toUrl());
 	}
@@ -226,15 +278,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("query");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.post(dispatchQueryResource);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("executeQuery", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("executeQuery", e, startTime);
+			throw e;
+		}
+
+		recordRequest("executeQuery", clientResource, startTime);
 
 		return getQueryResultPageResource(clientResource);
 	}
@@ -252,15 +313,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("query", "common", orderType.getURLParameter() + "?lat1=" + boundingBox.getLowerLeftLatitude() + "&lon1=" + boundingBox.getLowerLeftLongitude() + "&lat2=" + boundingBox.getUpperRightLatitude() + "&lon2=" + boundingBox.getUpperRightLongitude());
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.get();
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("executeCommonQuery", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("executeCommonQuery", e, startTime);
+			throw e;
+		}
+
+		recordRequest("executeCommonQuery", clientResource, startTime);
 
 		return getQueryResultPageResource(clientResource);
 	}
@@ -279,15 +349,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("query", "common", orderType.getURLParameter() + "?lat=" + locationLatitude + "&lon=" + locationLongitude);
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.get();
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("executeCommonQuery", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("executeCommonQuery", e, startTime);
+			throw e;
+		}
+
+		recordRequest("executeCommonQuery", clientResource, startTime);
 
 		return getQueryResultPageResource(clientResource);
 	}
@@ -302,7 +381,7 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("tasks");
 
-		return getResultPageResource(clientResource);
+		return getResultPageResource(clientResource, "getAllTasks");
 	}
 
 	/**
@@ -315,15 +394,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(taskID.getUniqueResourceURL());
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.get(TaskMetaDataResource.class);
+			TaskMetaDataResource taskMetaDataResource = clientResource.get(TaskMetaDataResource.class);
+
+			recordRequest("getMetaDataTask", clientResource, startTime);
+
+			return taskMetaDataResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getMetaDataTask", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getMetaDataTask", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -337,15 +427,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("tasks", "metadata");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.post(multipleTasksRequestResource, MultipleMetaDataTasksResource.class);
+			MultipleMetaDataTasksResource multipleMetaDataTasksResource = clientResource.post(multipleTasksRequestResource, MultipleMetaDataTasksResource.class);
+
+			recordRequest("getMultipleMetaDataTasks", clientResource, startTime);
+
+			return multipleMetaDataTasksResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getMultipleMetaDataTasks", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getMultipleMetaDataTasks", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -359,15 +460,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("tasks", "snapshots");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.post(multipleTasksRequestResource, MultipleSnapShotTasksResource.class);
+			MultipleSnapShotTasksResource multipleSnapShotTasksResource = clientResource.post(multipleTasksRequestResource, MultipleSnapShotTasksResource.class);
+
+			recordRequest("getMultipleSnapShotTasks", clientResource, startTime);
+
+			return multipleSnapShotTasksResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getMultipleSnapShotTasks", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getMultipleSnapShotTasks", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -381,15 +493,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("tags", "multiple");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.post(multipleValuesRequestResource, MultipleTagsResource.class);
+			MultipleTagsResource multipleTagsResource = clientResource.post(multipleValuesRequestResource, MultipleTagsResource.class);
+
+			recordRequest("getMultipleTags", clientResource, startTime);
+
+			return multipleTagsResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getMultipleTags", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getMultipleTags", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -403,15 +526,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(new Reference(pageURL));
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.get(QueryResultPageResource.class);
+			QueryResultPageResource queryResultPageResource = clientResource.get(QueryResultPageResource.class);
+
+			recordRequest("getQueryResultPageResource", clientResource, startTime);
+
+			return queryResultPageResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getQueryResultPageResource", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getQueryResultPageResource", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -425,15 +559,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(new Reference(pageURL));
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.get(ResultPageResource.class);
+			ResultPageResource resultPageResource = clientResource.get(ResultPageResource.class);
+
+			recordRequest("getResultPage", clientResource, startTime);
+
+			return resultPageResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getResultPage", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getResultPage", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -446,15 +591,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(taskID.getUniqueResourceURL(), "snapshot");
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.get(TaskSnapShotResource.class);
+			TaskSnapShotResource taskSnapShotResource = clientResource.get(TaskSnapShotResource.class);
+
+			recordRequest("getSnapShotTask", clientResource, startTime);
+
+			return taskSnapShotResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getSnapShotTask", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getSnapShotTask", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -469,7 +625,7 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource("tasks", "since", time.toString(Time.ISO_UTC_DATE_TIME_FORMATTER));
 
-		return getResultPageResource(clientResource);
+		return getResultPageResource(clientResource, "getTasksAfter");
 	}
 
 	/**
@@ -483,15 +639,26 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(userSession, entityID.getUniqueResourceURL(), "vote", "user", userSession.getUser().getAuthID());
 
+		long startTime = System.nanoTime();
+
 		try
 		{
-			return clientResource.get(UserVoteResource.class);
+			UserVoteResource userVoteResource = clientResource.get(UserVoteResource.class);
+
+			recordRequest("getUserVote", clientResource, startTime);
+
+			return userVoteResource;
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("getUserVote", e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("getUserVote", e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -507,15 +674,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(userSession, entityID.getUniqueResourceURL(), "vote", "user", userSession.getUser().getAuthID());
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.delete();
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("removeUserVote", e, startTime);
 			return false;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("removeUserVote", e, startTime);
+			throw e;
+		}
+
+		recordRequest("removeUserVote", clientResource, startTime);
 
 		return true;
 	}
@@ -535,15 +711,24 @@ final class ResourceManager
 	{
 		ClientResource clientResource = createClientResource(userSession, entityID.getUniqueResourceURL(), "vote", "user", userSession.getUser().getAuthID(), voteType.getURLParameter());
 
+		long startTime = System.nanoTime();
+
 		try
 		{
 			clientResource.put(null);
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure("setUserVote", e, startTime);
 			return false;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure("setUserVote", e, startTime);
+			throw e;
+		}
+
+		recordRequest("setUserVote", clientResource, startTime);
 
 		return true;
 	}
@@ -579,8 +764,6 @@ final class ResourceManager
 			url.append(part);
 		}
 
-		System.out.println("[TaskService ResourceManager] " + url.toString());
-
 		return url.toString();
 	}
 
@@ -596,8 +779,6 @@ final class ResourceManager
 		ClientResource clientResource = new ClientResource(reference);
 		handleClientResource(systemSession, clientResource);
 
-		System.out.println("[TaskService ResourceManager] " + reference.toString());
-
 		return clientResource;
 	}
 
@@ -703,10 +884,14 @@ final class ResourceManager
 		{
 			clientResource = createClientResource((clientResource.getResponse().getLocationRef()));
 
+			long startTime = System.nanoTime();
+
 			try
 			{
 				QueryResultPageResource queryResultPageResource = clientResource.get(QueryResultPageResource.class);
 
+				recordRequest("getQueryResult", clientResource, startTime);
+
 				if(clientResource.getResponse().getStatus().getCode() == 204)
 				{
 					throw new NoResultsException();
@@ -716,9 +901,14 @@ final class ResourceManager
 			}
 			catch(ResourceException e)
 			{
-				System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+				recordFailure("getQueryResult", e, startTime);
 				return null;
 			}
+			catch(RuntimeException e)
+			{
+				recordFailure("getQueryResult", e, startTime);
+				throw e;
+			}
 		}
 		else
 		{
@@ -731,15 +921,20 @@ final class ResourceManager
 	 * {@link ClientResource}.
 	 * 
 	 * @param clientResource The {@code ClientResource}
+	 * @param operation The name of the operation for the measurements
 	 * @return The {@code ResultPageResource}
 	 * @throws NoResultsException
 	 */
-	private ResultPageResource getResultPageResource(ClientResource clientResource) throws NoResultsException
+	private ResultPageResource getResultPageResource(ClientResource clientResource, String operation) throws NoResultsException
 	{
+		long startTime = System.nanoTime();
+
 		try
 		{
 			ResultPageResource resultPageResource = clientResource.get(ResultPageResource.class);
 
+			recordRequest(operation, clientResource, startTime);
+
 			if(clientResource.getResponse().getStatus().getCode() == 204)
 			{
 				throw new NoResultsException();
@@ -749,9 +944,14 @@ final class ResourceManager
 		}
 		catch(ResourceException e)
 		{
-			System.err.println("[TaskService ResourceManager] " + e.getStatus().getCode());
+			recordFailure(operation, e, startTime);
 			return null;
 		}
+		catch(RuntimeException e)
+		{
+			recordFailure(operation, e, startTime);
+			throw e;
+		}
 	}
 
 	/**
@@ -762,6 +962,11 @@ final class ResourceManager
 	 */
 	private void handleClientResource(Session session, ClientResource clientResource)
 	{
+		if(LOGGER.isLoggable(Level.FINE))
+		{
+			LOGGER.fine("[TaskService ResourceManager] " + clientResource.getReference());
+		}
+
 		clientResource.setNext(restletClient);
 
 		if(session != null)
@@ -769,4 +974,60 @@ final class ResourceManager
 			UserFactory.authenticateClientResource(session.getUser(), clientResource);
 		}
 	}
+
+	/**
+	 * Records the measurements of a successful request of the given
+	 * {@link ClientResource}.
+	 * 
+	 * @param operation The name of the operation
+	 * @param clientResource The {@code ClientResource}
+	 * @param startTime The start time of the request in nanoseconds
+	 */
+	private void recordRequest(String operation, ClientResource clientResource, long startTime)
+	{
+		long latency = System.nanoTime() - startTime;
+
+		Response response = clientResource.getResponse();
+
+		long payloadSize = -1;
+
+		if(response.getEntity() != null)
+		{
+			payloadSize = response.getEntity().getSize();
+		}
+
+		metricsManager.requestCompleted(operation, response.getStatus().getCode(), latency, payloadSize);
+	}
+
+	/**
+	 * Records the measurements of a failed request and logs the failure. If
+	 * the request has not failed with a {@link ResourceException}, the failure
+	 * is recorded with the status code {@code 0}.
+	 * 
+	 * @param operation The name of the operation
+	 * @param e The {@code RuntimeException} of the request
+	 * @param startTime The start time of the request in nanoseconds
+	 */
+	private void recordFailure(String operation, RuntimeException e, long startTime)
+	{
+		long latency = System.nanoTime() - startTime;
+
+		int statusCode = 0;
+
+		if(e instanceof ResourceException)
+		{
+			statusCode = ((ResourceException) e).getStatus().getCode();
+		}
+
+		metricsManager.requestCompleted(operation, statusCode, latency, -1);
+
+		if(statusCode == 0)
+		{
+			LOGGER.log(Level.WARNING, "[TaskService ResourceManager] " + operation + " has failed.", e);
+		}
+		else if(LOGGER.isLoggable(Level.WARNING))
+		{
+			LOGGER.warning("[TaskService ResourceManager] " + operation + " " + statusCode);
+		}
+	}
 }
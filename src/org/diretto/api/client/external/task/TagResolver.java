@@ -0,0 +1,121 @@
+package org.diretto.api.client.external.task;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.Element;
+
+/**
+ * The {@code TagResolver} holds the resolved tags, which map the tags to the
+ * {@code URL}s of their base tags. The mappings are kept in the tag
+ * {@code Cache}, which is bounded and expires its entries as configured in
+ * the cache configuration file. <br/><br/>
+ * 
+ * <i>Annotation:</i> The tag {@code Cache} is shared by all
+ * {@link DataManager}s, therefore the keys are qualified with the service
+ * {@code URL}.
+ * 
+ * @author Tobias Schlecht
+ */
+final class TagResolver
+{
+	private final String serviceURL;
+	private final Cache tagCache;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 */
+	private TagResolver(DataManagerImpl dataManager)
+	{
+		serviceURL = dataManager.getServiceURL().toExternalForm();
+
+		CacheManager cacheManager = dataManager.getCacheManager();
+
+		if(cacheManager.isTagCacheActivated())
+		{
+			tagCache = cacheManager.getTagCache();
+		}
+		else
+		{
+			tagCache = null;
+		}
+	}
+
+	/**
+	 * Returns a {@link TagResolver} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code TagResolver} instance
+	 */
+	static synchronized TagResolver getInstance(DataManagerImpl dataManager)
+	{
+		return new TagResolver(dataManager);
+	}
+
+	/**
+	 * Returns the already resolved tags of the given tags. Tags which are not
+	 * contained in the returned {@code Map} have to be resolved with the API.
+	 * 
+	 * @param tags A {@code List} of tags in {@code String} representation
+	 * @return A {@code Map} from the tags to the {@code URL}s of their base
+	 *         tags in {@code String} representation
+	 */
+	Map<String, String> getResolvedTags(List<String> tags)
+	{
+		Map<String, String> resolvedTags = new HashMap<String, String>();
+
+		if(tagCache == null)
+		{
+			return resolvedTags;
+		}
+
+		Element element;
+
+		for(String tag : tags)
+		{
+			element = tagCache.get(createKey(tag));
+
+			if(element != null)
+			{
+				resolvedTags.put(tag, (String) element.getObjectValue());
+			}
+		}
+
+		return resolvedTags;
+	}
+
+	/**
+	 * Puts the given resolved tag in the tag {@code Cache}. If the tag
+	 * {@code Cache} is not activated, the invocation has no effect.
+	 * 
+	 * @param tag The tag in {@code String} representation
+	 * @param tagID The {@code URL} of the base tag in {@code String}
+	 *        representation
+	 */
+	void putResolvedTag(String tag, String tagID)
+	{
+		if(tagCache != null)
+		{
+			tagCache.put(new Element(createKey(tag), tagID));
+		}
+	}
+
+	/**
+	 * Returns the key of the given tag in the tag {@code Cache}.
+	 * 
+	 * @param tag The tag in {@code String} representation
+	 * @return The key of the tag
+	 */
+	private String createKey(String tag)
+	{
+		return serviceURL + "\n" + tag;
+	}
+}
@@ -0,0 +1,767 @@
+package org.diretto.api.client.external.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.base.data.BoundingBox;
+import org.diretto.api.client.base.data.TimeRange;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+
+/**
+ * The {@code TaskIndex} is an in-memory index over the relevant areas and the
+ * relevant {@link TimeRange}s of the {@link Task}s which have passed through
+ * the {@code Cache}. It answers bounding box, nearest-to-point and time window
+ * queries without an API call. <br/><br/>
+ * 
+ * The relevant areas are indexed in a grid of cells with the configured size
+ * (in degrees). Areas which would cover too many cells are held separately
+ * and are checked with every query. The relevant {@code TimeRange}s are
+ * indexed by their start, so that a time window query only has to look at
+ * the starts in the window extended by the longest indexed duration.
+ * <br/><br/>
+ * 
+ * <i>Annotation:</i> The {@code TaskIndex} only holds the {@link TaskID}s and
+ * the geometry of the {@code Task}s, so its entries outlive the evicted
+ * {@code Cache} entries. It is marked as complete after a complete
+ * synchronization of the {@code Cache} and stays complete for the configured
+ * maximum age. Afterwards the queries are answered by the API again until the
+ * next complete synchronization, because {@code Task}s which have been
+ * created or deleted by other clients in the meantime may be missing or
+ * remain in the {@code TaskIndex}. Distances are measured in degrees on the
+ * plane.
+ * 
+ * @author Tobias Schlecht
+ */
+final class TaskIndex
+{
+	private static final int MAX_CELLS_PER_ENTRY = 1024;
+
+	private final boolean indexActivated;
+	private final double cellSize;
+	private final long maxAge;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<TaskID, IndexEntry> entries = new HashMap<TaskID, IndexEntry>();
+	private final Map<Long, Set<TaskID>> cells = new HashMap<Long, Set<TaskID>>();
+	private final Set<TaskID> oversizedEntries = new HashSet<TaskID>();
+	private final TreeMap<Long, Set<TaskID>> starts = new TreeMap<Long, Set<TaskID>>();
+
+	private long maxDuration = 0;
+
+	private int minLatitudeCell = Integer.MAX_VALUE;
+	private int maxLatitudeCell = Integer.MIN_VALUE;
+	private int minLongitudeCell = Integer.MAX_VALUE;
+	private int maxLongitudeCell = Integer.MIN_VALUE;
+
+	private volatile long completeUntil = 0;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 */
+	private TaskIndex()
+	{
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		indexActivated = xmlConfiguration.getBoolean("index/index-activated", false);
+
+		double configuredCellSize = xmlConfiguration.getDouble("index/cell-size", 1.0d);
+
+		if(configuredCellSize > 0.0d)
+		{
+			cellSize = configuredCellSize;
+		}
+		else
+		{
+			cellSize = 1.0d;
+		}
+
+		maxAge = Math.max(1, xmlConfiguration.getLong("index/max-age", 600)) * 1000L;
+	}
+
+	/**
+	 * Returns a {@link TaskIndex} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code TaskIndex} instance
+	 */
+	static synchronized TaskIndex getInstance(DataManagerImpl dataManager)
+	{
+		return new TaskIndex();
+	}
+
+	/**
+	 * Determines if the {@code TaskIndex} is activated.
+	 * 
+	 * @return {@code true} if the {@code TaskIndex} is activated; otherwise
+	 *         {@code false}
+	 */
+	boolean isIndexActivated()
+	{
+		return indexActivated;
+	}
+
+	/**
+	 * Determines if the {@code TaskIndex} contains all {@link Task}s, so that
+	 * queries can be answered without an API call. The {@code TaskIndex} is
+	 * complete until the maximum age has elapsed since the last complete
+	 * synchronization.
+	 * 
+	 * @return {@code true} if the {@code TaskIndex} is complete; otherwise
+	 *         {@code false}
+	 */
+	boolean isComplete()
+	{
+		return indexActivated && System.currentTimeMillis() < completeUntil;
+	}
+
+	/**
+	 * Marks the {@code TaskIndex} as complete for the configured maximum age
+	 * or as incomplete.
+	 * 
+	 * @param complete {@code true} if the {@code TaskIndex} contains all
+	 *        {@link Task}s; otherwise {@code false}
+	 */
+	void setComplete(boolean complete)
+	{
+		if(complete)
+		{
+			completeUntil = System.currentTimeMillis() + maxAge;
+		}
+		else
+		{
+			completeUntil = 0;
+		}
+	}
+
+	/**
+	 * Puts the given {@link Task} into the {@code TaskIndex}. An existing entry
+	 * of the {@code Task} is replaced. If the {@code TaskIndex} is not
+	 * activated, the invocation has no effect.
+	 * 
+	 * @param task The {@code Task}
+	 */
+	void put(Task task)
+	{
+		put(task.getID(), task.getRelevantArea(), task.getRelevantTimeRange());
+	}
+
+	/**
+	 * Puts the {@link Task} with the given {@link TaskID} and the given
+	 * geometry into the {@code TaskIndex}. An existing entry of the
+	 * {@code Task} is replaced. If the {@code TaskIndex} is not activated, the
+	 * invocation has no effect.
+	 * 
+	 * @param taskID The {@code TaskID}
+	 * @param relevantArea A {@code BoundingBox} of the relevant area
+	 * @param relevantTimeRange The relevant {@code TimeRange}
+	 */
+	void put(TaskID taskID, BoundingBox relevantArea, TimeRange relevantTimeRange)
+	{
+		if(!indexActivated || relevantArea == null || relevantTimeRange == null)
+		{
+			return;
+		}
+
+		IndexEntry entry = new IndexEntry(taskID, relevantArea, relevantTimeRange);
+
+		lock.writeLock().lock();
+
+		try
+		{
+			IndexEntry previousEntry = entries.put(entry.taskID, entry);
+
+			if(previousEntry != null)
+			{
+				removeFromStructures(previousEntry);
+			}
+
+			addToStructures(entry);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all entries from the {@code TaskIndex} whose {@link TaskID}s are
+	 * not contained in the given {@code Set}, for example after a complete
+	 * synchronization of the {@code Cache} to remove the deleted {@link Task}s.
+	 * 
+	 * @param taskIDs The {@code TaskID}s of the {@code Task}s to be retained
+	 */
+	void retain(Set<TaskID> taskIDs)
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			Iterator<IndexEntry> iterator = entries.values().iterator();
+			IndexEntry entry;
+
+			while(iterator.hasNext())
+			{
+				entry = iterator.next();
+
+				if(!taskIDs.contains(entry.taskID))
+				{
+					iterator.remove();
+					removeFromStructures(entry);
+				}
+			}
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the {@link TaskID}s of all indexed {@link Task}s whose relevant
+	 * area intersects the given {@link BoundingBox} and whose relevant
+	 * {@link TimeRange} overlaps the given {@code TimeRange}. The result is
+	 * ordered by the start of the relevant {@code TimeRange}s.
+	 * 
+	 * @param boundingBox A {@code BoundingBox} or {@code null} if the area
+	 *        should not be restricted
+	 * @param timeRange A {@code TimeRange} or {@code null} if the time should
+	 *        not be restricted
+	 * @return The {@code TaskID}s of the matching {@code Task}s
+	 */
+	List<TaskID> getTaskIDs(BoundingBox boundingBox, TimeRange timeRange)
+	{
+		double[] area = null;
+		long windowStart = 0;
+		long windowEnd = 0;
+
+		if(boundingBox != null)
+		{
+			area = toArea(boundingBox);
+		}
+
+		if(timeRange != null)
+		{
+			windowStart = timeRange.getStartDateTime().getMillis();
+			windowEnd = timeRange.getEndDateTime().getMillis();
+		}
+
+		List<IndexEntry> matches = new ArrayList<IndexEntry>();
+
+		lock.readLock().lock();
+
+		try
+		{
+			Collection<TaskID> candidates;
+
+			if(area != null)
+			{
+				candidates = getSpatialCandidates(area);
+			}
+			else if(timeRange != null)
+			{
+				candidates = getTemporalCandidates(windowStart, windowEnd);
+			}
+			else
+			{
+				candidates = entries.keySet();
+			}
+
+			IndexEntry entry;
+
+			for(TaskID taskID : candidates)
+			{
+				entry = entries.get(taskID);
+
+				if(area != null && !entry.intersects(area))
+				{
+					continue;
+				}
+
+				if(timeRange != null && !entry.overlaps(windowStart, windowEnd))
+				{
+					continue;
+				}
+
+				matches.add(entry);
+			}
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+
+		Collections.sort(matches);
+
+		List<TaskID> taskIDs = new ArrayList<TaskID>(matches.size());
+
+		for(IndexEntry match : matches)
+		{
+			taskIDs.add(match.taskID);
+		}
+
+		return taskIDs;
+	}
+
+	/**
+	 * Returns the {@link TaskID}s of the indexed {@link Task}s whose relevant
+	 * areas are nearest to the given location, ordered by ascending distance.
+	 * A location inside of a relevant area has the distance zero.
+	 * 
+	 * @param locationLatitude The latitude of the location
+	 * @param locationLongitude The longitude of the location
+	 * @param maxResults The maximum number of {@code TaskID}s
+	 * @return The {@code TaskID}s of the nearest {@code Task}s
+	 */
+	List<TaskID> getNearestTaskIDs(double locationLatitude, double locationLongitude, int maxResults)
+	{
+		// The head of the queue is the farthest of the nearest entries found so
+		// far.
+		PriorityQueue<Candidate> nearest = new PriorityQueue<Candidate>(Math.max(1, maxResults), Candidate.FARTHEST_FIRST);
+
+		if(maxResults > 0)
+		{
+			lock.readLock().lock();
+
+			try
+			{
+				Set<TaskID> visited = new HashSet<TaskID>();
+
+				for(TaskID taskID : oversizedEntries)
+				{
+					offer(nearest, maxResults, entries.get(taskID), locationLatitude, locationLongitude);
+				}
+
+				int latitudeCell = toCell(locationLatitude);
+				int longitudeCell = toCell(locationLongitude);
+
+				int maxRing = -1;
+
+				if(!cells.isEmpty())
+				{
+					maxRing = Math.max(Math.max(latitudeCell - minLatitudeCell, maxLatitudeCell - latitudeCell), Math.max(longitudeCell - minLongitudeCell, maxLongitudeCell - longitudeCell));
+				}
+
+				for(int ring = 0; ring <= maxRing; ring++)
+				{
+					// All entries outside of the visited rings are at least this
+					// far away from the location.
+					if(nearest.size() == maxResults && nearest.peek().distance <= (ring - 1) * cellSize)
+					{
+						break;
+					}
+
+					for(int i = latitudeCell - ring; i <= latitudeCell + ring; i++)
+					{
+						for(int j = longitudeCell - ring; j <= longitudeCell + ring; j++)
+						{
+							if(Math.abs(i - latitudeCell) != ring && Math.abs(j - longitudeCell) != ring)
+							{
+								continue;
+							}
+
+							Set<TaskID> cell = cells.get(toKey(i, j));
+
+							if(cell == null)
+							{
+								continue;
+							}
+
+							for(TaskID taskID : cell)
+							{
+								if(visited.add(taskID))
+								{
+									offer(nearest, maxResults, entries.get(taskID), locationLatitude, locationLongitude);
+								}
+							}
+						}
+					}
+				}
+			}
+			finally
+			{
+				lock.readLock().unlock();
+			}
+		}
+
+		List<Candidate> candidates = new ArrayList<Candidate>(nearest);
+
+		Collections.sort(candidates, Collections.reverseOrder(Candidate.FARTHEST_FIRST));
+
+		List<TaskID> taskIDs = new ArrayList<TaskID>(candidates.size());
+
+		for(Candidate candidate : candidates)
+		{
+			taskIDs.add(candidate.entry.taskID);
+		}
+
+		return taskIDs;
+	}
+
+	/**
+	 * Offers the given entry to the queue of the nearest entries.
+	 * 
+	 * @param nearest The queue of the nearest entries
+	 * @param maxResults The maximum size of the queue
+	 * @param entry The {@code IndexEntry}
+	 * @param locationLatitude The latitude of the location
+	 * @param locationLongitude The longitude of the location
+	 */
+	private static void offer(PriorityQueue<Candidate> nearest, int maxResults, IndexEntry entry, double locationLatitude, double locationLongitude)
+	{
+		double distance = entry.distanceTo(locationLatitude, locationLongitude);
+
+		if(nearest.size() < maxResults)
+		{
+			nearest.add(new Candidate(entry, distance));
+		}
+		else if(distance < nearest.peek().distance)
+		{
+			nearest.poll();
+			nearest.add(new Candidate(entry, distance));
+		}
+	}
+
+	/**
+	 * Returns the {@link TaskID}s whose relevant areas may intersect the given
+	 * area. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The invoking {@code Thread} must hold the read lock.
+	 * 
+	 * @param area The area
+	 * @return The candidate {@code TaskID}s
+	 */
+	private Set<TaskID> getSpatialCandidates(double[] area)
+	{
+		Set<TaskID> candidates = new HashSet<TaskID>(oversizedEntries);
+
+		int fromLatitudeCell = Math.max(toCell(area[0]), minLatitudeCell);
+		int toLatitudeCell = Math.min(toCell(area[2]), maxLatitudeCell);
+		int fromLongitudeCell = Math.max(toCell(area[1]), minLongitudeCell);
+		int toLongitudeCell = Math.min(toCell(area[3]), maxLongitudeCell);
+
+		for(int i = fromLatitudeCell; i <= toLatitudeCell; i++)
+		{
+			for(int j = fromLongitudeCell; j <= toLongitudeCell; j++)
+			{
+				Set<TaskID> cell = cells.get(toKey(i, j));
+
+				if(cell != null)
+				{
+					candidates.addAll(cell);
+				}
+			}
+		}
+
+		return candidates;
+	}
+
+	/**
+	 * Returns the {@link TaskID}s whose relevant {@link TimeRange}s may
+	 * overlap the given time window. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The invoking {@code Thread} must hold the read lock.
+	 * 
+	 * @param windowStart The start of the window in milliseconds
+	 * @param windowEnd The end of the window in milliseconds
+	 * @return The candidate {@code TaskID}s
+	 */
+	private List<TaskID> getTemporalCandidates(long windowStart, long windowEnd)
+	{
+		List<TaskID> candidates = new ArrayList<TaskID>();
+
+		if(windowEnd < windowStart)
+		{
+			return candidates;
+		}
+
+		for(Set<TaskID> start : starts.subMap(windowStart - maxDuration, true, windowEnd, true).values())
+		{
+			candidates.addAll(start);
+		}
+
+		return candidates;
+	}
+
+	/**
+	 * Adds the given entry to the grid and to the starts. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The invoking {@code Thread} must hold the write lock.
+	 * 
+	 * @param entry The {@code IndexEntry}
+	 */
+	private void addToStructures(IndexEntry entry)
+	{
+		int fromLatitudeCell = toCell(entry.area[0]);
+		int toLatitudeCell = toCell(entry.area[2]);
+		int fromLongitudeCell = toCell(entry.area[1]);
+		int toLongitudeCell = toCell(entry.area[3]);
+
+		if(isOversized(entry))
+		{
+			oversizedEntries.add(entry.taskID);
+		}
+		else
+		{
+			for(int i = fromLatitudeCell; i <= toLatitudeCell; i++)
+			{
+				for(int j = fromLongitudeCell; j <= toLongitudeCell; j++)
+				{
+					Long key = toKey(i, j);
+					Set<TaskID> cell = cells.get(key);
+
+					if(cell == null)
+					{
+						cell = new HashSet<TaskID>();
+						cells.put(key, cell);
+					}
+
+					cell.add(entry.taskID);
+				}
+			}
+
+			minLatitudeCell = Math.min(minLatitudeCell, fromLatitudeCell);
+			maxLatitudeCell = Math.max(maxLatitudeCell, toLatitudeCell);
+			minLongitudeCell = Math.min(minLongitudeCell, fromLongitudeCell);
+			maxLongitudeCell = Math.max(maxLongitudeCell, toLongitudeCell);
+		}
+
+		Set<TaskID> start = starts.get(entry.start);
+
+		if(start == null)
+		{
+			start = new HashSet<TaskID>();
+			starts.put(entry.start, start);
+		}
+
+		start.add(entry.taskID);
+
+		maxDuration = Math.max(maxDuration, entry.end - entry.start);
+	}
+
+	/**
+	 * Removes the given entry from the grid and from the starts. The grid
+	 * extent and the longest duration are not shrunk, since they only bound
+	 * the search. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The invoking {@code Thread} must hold the write lock.
+	 * 
+	 * @param entry The {@code IndexEntry}
+	 */
+	private void removeFromStructures(IndexEntry entry)
+	{
+		if(isOversized(entry))
+		{
+			oversizedEntries.remove(entry.taskID);
+		}
+		else
+		{
+			for(int i = toCell(entry.area[0]); i <= toCell(entry.area[2]); i++)
+			{
+				for(int j = toCell(entry.area[1]); j <= toCell(entry.area[3]); j++)
+				{
+					Long key = toKey(i, j);
+					Set<TaskID> cell = cells.get(key);
+
+					if(cell != null && cell.remove(entry.taskID) && cell.isEmpty())
+					{
+						cells.remove(key);
+					}
+				}
+			}
+		}
+
+		Set<TaskID> start = starts.get(entry.start);
+
+		if(start != null && start.remove(entry.taskID) && start.isEmpty())
+		{
+			starts.remove(entry.start);
+		}
+	}
+
+	/**
+	 * Determines if the relevant area of the given entry covers too many cells
+	 * to be put into the grid.
+	 * 
+	 * @param entry The {@code IndexEntry}
+	 * @return {@code true} if the entry is oversized; otherwise {@code false}
+	 */
+	private boolean isOversized(IndexEntry entry)
+	{
+		long latitudeCells = (long) toCell(entry.area[2]) - toCell(entry.area[0]) + 1;
+		long longitudeCells = (long) toCell(entry.area[3]) - toCell(entry.area[1]) + 1;
+
+		return latitudeCells * longitudeCells > MAX_CELLS_PER_ENTRY;
+	}
+
+	/**
+	 * Returns the cell of the given coordinate.
+	 * 
+	 * @param coordinate The latitude or longitude
+	 * @return The cell
+	 */
+	private int toCell(double coordinate)
+	{
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	/**
+	 * Returns the key of the given cell.
+	 * 
+	 * @param latitudeCell The latitude cell
+	 * @param longitudeCell The longitude cell
+	 * @return The key of the cell
+	 */
+	private static Long toKey(int latitudeCell, int longitudeCell)
+	{
+		return Long.valueOf(((long) latitudeCell << 32) | (longitudeCell & 0xFFFFFFFFL));
+	}
+
+	/**
+	 * Returns the given {@link BoundingBox} as normalized area in the form
+	 * {@code [minLatitude, minLongitude, maxLatitude, maxLongitude]}.
+	 * 
+	 * @param boundingBox A {@code BoundingBox}
+	 * @return The area
+	 */
+	private static double[] toArea(BoundingBox boundingBox)
+	{
+		double lowerLeftLatitude = boundingBox.getLowerLeftLatitude();
+		double lowerLeftLongitude = boundingBox.getLowerLeftLongitude();
+		double upperRightLatitude = boundingBox.getUpperRightLatitude();
+		double upperRightLongitude = boundingBox.getUpperRightLongitude();
+
+		return new double[] {Math.min(lowerLeftLatitude, upperRightLatitude), Math.min(lowerLeftLongitude, upperRightLongitude), Math.max(lowerLeftLatitude, upperRightLatitude), Math.max(lowerLeftLongitude, upperRightLongitude)};
+	}
+
+	/**
+	 * An {@code IndexEntry} holds the geometry of one {@link Task}.
+	 */
+	private static final class IndexEntry implements Comparable<IndexEntry>
+	{
+		private final TaskID taskID;
+		private final double[] area;
+		private final long start;
+		private final long end;
+
+		/**
+		 * Constructs an {@link IndexEntry}.
+		 * 
+		 * @param taskID The {@code TaskID}
+		 * @param relevantArea The relevant area
+		 * @param relevantTimeRange The relevant {@code TimeRange}
+		 */
+		IndexEntry(TaskID taskID, BoundingBox relevantArea, TimeRange relevantTimeRange)
+		{
+			this.taskID = taskID;
+
+			area = toArea(relevantArea);
+			start = relevantTimeRange.getStartDateTime().getMillis();
+			end = Math.max(start, relevantTimeRange.getEndDateTime().getMillis());
+		}
+
+		/**
+		 * Determines if the relevant area intersects the given area.
+		 * 
+		 * @param otherArea The other area
+		 * @return {@code true} if the areas intersect; otherwise {@code false}
+		 */
+		boolean intersects(double[] otherArea)
+		{
+			return area[0] <= otherArea[2] && otherArea[0] <= area[2] && area[1] <= otherArea[3] && otherArea[1] <= area[3];
+		}
+
+		/**
+		 * Determines if the relevant {@link TimeRange} overlaps the given time
+		 * window.
+		 * 
+		 * @param windowStart The start of the window in milliseconds
+		 * @param windowEnd The end of the window in milliseconds
+		 * @return {@code true} if they overlap; otherwise {@code false}
+		 */
+		boolean overlaps(long windowStart, long windowEnd)
+		{
+			return start <= windowEnd && windowStart <= end;
+		}
+
+		/**
+		 * Returns the distance between the relevant area and the given
+		 * location.
+		 * 
+		 * @param locationLatitude The latitude of the location
+		 * @param locationLongitude The longitude of the location
+		 * @return The distance in degrees
+		 */
+		double distanceTo(double locationLatitude, double locationLongitude)
+		{
+			double latitudeDistance = Math.max(0.0d, Math.max(area[0] - locationLatitude, locationLatitude - area[2]));
+			double longitudeDistance = Math.max(0.0d, Math.max(area[1] - locationLongitude, locationLongitude - area[3]));
+
+			return Math.sqrt(latitudeDistance * latitudeDistance + longitudeDistance * longitudeDistance);
+		}
+
+		@Override
+		public int compareTo(IndexEntry other)
+		{
+			if(start < other.start)
+			{
+				return -1;
+			}
+			else if(start > other.start)
+			{
+				return 1;
+			}
+
+			return 0;
+		}
+	}
+
+	/**
+	 * A {@code Candidate} is an {@link IndexEntry} together with its distance
+	 * to the location of a nearest-to-point query.
+	 */
+	private static final class Candidate
+	{
+		private static final Comparator<Candidate> FARTHEST_FIRST = new Comparator<Candidate>()
+		{
+			@Override
+			public int compare(Candidate first, Candidate second)
+			{
+				return Double.compare(second.distance, first.distance);
+			}
+		};
+
+		private final IndexEntry entry;
+		private final double distance;
+
+		/**
+		 * Constructs a {@link Candidate}.
+		 * 
+		 * @param entry The {@code IndexEntry}
+		 * @param distance The distance to the location
+		 */
+		Candidate(IndexEntry entry, double distance)
+		{
+			this.entry = entry;
+			this.distance = distance;
+		}
+	}
+}
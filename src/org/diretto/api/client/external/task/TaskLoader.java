@@ -0,0 +1,597 @@
+package org.diretto.api.client.external.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+
+/**
+ * The {@code TaskLoader} is responsible for the coordination of concurrent
+ * {@link Task} loads. Only one load per {@link TaskID} and load level is in
+ * flight at any time; concurrent requests for the same {@code Task} wait for
+ * the outstanding load instead of loading the {@code Task} again. The loaded
+ * {@code Task}s are put in the {@code Cache} by the load itself, unless the
+ * {@code Task} has been invalidated in the meantime. <br/><br/>
+ * 
+ * <i>Annotation:</i> If a collection window is configured, the {@code Task}s
+ * of concurrent batch requests are collected for the duration of the window
+ * and loaded with shared batch requests of at most
+ * {@link DataManager#getMaxTaskRequestSize()} {@code Task}s.
+ * 
+ * @author Tobias Schlecht
+ */
+final class TaskLoader
+{
+	private final DataManagerImpl dataManager;
+
+	private final long collectionWindow;
+
+	private final ConcurrentMap<LoadKey, AsyncResult<Task>> inFlightLoads = new ConcurrentHashMap<LoadKey, AsyncResult<Task>>();
+	private final Object invalidationLock = new Object();
+
+	private final PendingBatch pendingMetaDataBatch = new PendingBatch(false);
+	private final PendingBatch pendingCompleteBatch = new PendingBatch(true);
+
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong cacheMisses = new AtomicLong();
+	private final AtomicLong coalescedWaits = new AtomicLong();
+	private final AtomicLong batchRequests = new AtomicLong();
+	private final AtomicLong batchedTasks = new AtomicLong();
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i> {@link #getInstance(DataManagerImpl)}
+	 * returns the instances of the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 */
+	private TaskLoader(DataManagerImpl dataManager)
+	{
+		this.dataManager = dataManager;
+
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		collectionWindow = xmlConfiguration.getLong("coalescing/collection-window", 0);
+	}
+
+	/**
+	 * Returns a {@link TaskLoader} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @return A {@code TaskLoader} instance
+	 */
+	static synchronized TaskLoader getInstance(DataManagerImpl dataManager)
+	{
+		return new TaskLoader(dataManager);
+	}
+
+	/**
+	 * Loads the {@link Task} with the given {@link TaskID} from the API. If
+	 * the {@code Task} is already being loaded, the outstanding load is
+	 * awaited instead.
+	 * 
+	 * @param taskID The {@code TaskID}
+	 * @param loadCompletely {@code true} if the complete {@code Task} should
+	 *        be loaded; otherwise {@code false}
+	 * @return The {@code Task}
+	 */
+	Task getTask(TaskID taskID, boolean loadCompletely)
+	{
+		AsyncResult<Task> inFlightLoad = getInFlightLoad(taskID, loadCompletely);
+
+		if(inFlightLoad != null)
+		{
+			coalescedWaits.incrementAndGet();
+
+			return ConcurrencyManager.getResult(inFlightLoad);
+		}
+
+		LoadKey loadKey = new LoadKey(taskID, loadCompletely);
+		AsyncResult<Task> load = new AsyncResult<Task>(null);
+
+		inFlightLoad = inFlightLoads.putIfAbsent(loadKey, load);
+
+		if(inFlightLoad != null)
+		{
+			coalescedWaits.incrementAndGet();
+
+			return ConcurrencyManager.getResult(inFlightLoad);
+		}
+
+		try
+		{
+			complete(loadKey, load, dataManager.getDataFactory().getTask(taskID, loadCompletely), null);
+		}
+		catch(RuntimeException e)
+		{
+			if(Thread.currentThread().isInterrupted())
+			{
+				redispatch(Collections.singletonList(new PendingLoad(taskID, load)), loadCompletely);
+			}
+			else
+			{
+				complete(loadKey, load, null, e);
+			}
+		}
+		catch(Error e)
+		{
+			complete(loadKey, load, null, e);
+		}
+
+		return ConcurrencyManager.getResult(load);
+	}
+
+	/**
+	 * Loads the {@link Task}s with the given {@link TaskID}s from the API.
+	 * {@code Task}s which are already being loaded are not loaded again, but
+	 * the outstanding loads are awaited.
+	 * 
+	 * @param taskIDs A {@code List} of {@code TaskID}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @return The {@code Task}s in the order of the given {@code TaskID}s
+	 */
+	LinkedHashMap<TaskID, Task> getTasksByIDs(List<TaskID> taskIDs, boolean loadCompletely)
+	{
+		Map<TaskID, AsyncResult<Task>> loads = new LinkedHashMap<TaskID, AsyncResult<Task>>();
+		List<PendingLoad> ownLoads = new ArrayList<PendingLoad>();
+
+		for(TaskID taskID : taskIDs)
+		{
+			if(loads.containsKey(taskID))
+			{
+				continue;
+			}
+
+			AsyncResult<Task> inFlightLoad = getInFlightLoad(taskID, loadCompletely);
+
+			if(inFlightLoad == null)
+			{
+				AsyncResult<Task> load = new AsyncResult<Task>(null);
+
+				inFlightLoad = inFlightLoads.putIfAbsent(new LoadKey(taskID, loadCompletely), load);
+
+				if(inFlightLoad == null)
+				{
+					loads.put(taskID, load);
+					ownLoads.add(new PendingLoad(taskID, load));
+
+					continue;
+				}
+			}
+
+			coalescedWaits.incrementAndGet();
+
+			loads.put(taskID, inFlightLoad);
+		}
+
+		if(ownLoads.size() > 0)
+		{
+			if(collectionWindow > 0)
+			{
+				getPendingBatch(loadCompletely).add(ownLoads);
+			}
+			else
+			{
+				load(ownLoads, loadCompletely);
+			}
+		}
+
+		LinkedHashMap<TaskID, Task> tasks = new LinkedHashMap<TaskID, Task>();
+
+		for(TaskID taskID : taskIDs)
+		{
+			tasks.put(taskID, ConcurrencyManager.getResult(loads.get(taskID)));
+		}
+
+		return tasks;
+	}
+
+	/**
+	 * Invalidates the outstanding loads of the {@link Task} with the given
+	 * {@link TaskID}. Subsequent requests do not wait for these loads, and
+	 * their results are not put in the {@code Cache}, because they may reflect
+	 * the state before a modification of the {@code Task}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The {@code Cache} entry of the {@code Task} has to be
+	 * removed after the invocation, so that a result which has been put in the
+	 * {@code Cache} before is removed as well.
+	 * 
+	 * @param taskID The {@code TaskID}
+	 */
+	void invalidate(TaskID taskID)
+	{
+		synchronized(invalidationLock)
+		{
+			inFlightLoads.remove(new LoadKey(taskID, true));
+			inFlightLoads.remove(new LoadKey(taskID, false));
+		}
+	}
+
+	/**
+	 * Records a {@code Cache} hit.
+	 * 
+	 * @param operation The name of the read operation
+	 */
+	void recordCacheHit(String operation)
+	{
+		cacheHits.incrementAndGet();
+
+		dataManager.getMetricsManager().cacheAccessed(operation, 1, 0);
+	}
+
+	/**
+	 * Records the given number of {@code Cache} misses.
+	 * 
+	 * @param operation The name of the read operation
+	 * @param count The number of {@code Cache} misses
+	 */
+	void recordCacheMisses(String operation, int count)
+	{
+		cacheMisses.addAndGet(count);
+
+		dataManager.getMetricsManager().cacheAccessed(operation, 0, count);
+	}
+
+	/**
+	 * Returns the current {@link LoadStatistics}.
+	 * 
+	 * @return The current {@code LoadStatistics}
+	 */
+	LoadStatistics getLoadStatistics()
+	{
+		return new LoadStatistics(cacheHits.get(), cacheMisses.get(), coalescedWaits.get(), batchRequests.get(), batchedTasks.get(), dataManager.getMaxTaskRequestSize());
+	}
+
+	/**
+	 * Returns the outstanding load of the {@link Task} with the given
+	 * {@link TaskID} or {@code null} if there is none. An outstanding complete
+	 * load also serves a request for the meta data.
+	 * 
+	 * @param taskID The {@code TaskID}
+	 * @param loadCompletely {@code true} if the complete {@code Task} is
+	 *        requested; otherwise {@code false}
+	 * @return The outstanding load or {@code null}
+	 */
+	private AsyncResult<Task> getInFlightLoad(TaskID taskID, boolean loadCompletely)
+	{
+		AsyncResult<Task> inFlightLoad = inFlightLoads.get(new LoadKey(taskID, true));
+
+		if(inFlightLoad == null && !loadCompletely)
+		{
+			inFlightLoad = inFlightLoads.get(new LoadKey(taskID, false));
+		}
+
+		return inFlightLoad;
+	}
+
+	/**
+	 * Returns the {@link PendingBatch} of the given load level.
+	 * 
+	 * @param loadCompletely {@code true} for the complete load level;
+	 *        {@code false} for the meta data load level
+	 * @return The {@code PendingBatch}
+	 */
+	private PendingBatch getPendingBatch(boolean loadCompletely)
+	{
+		if(loadCompletely)
+		{
+			return pendingCompleteBatch;
+		}
+		else
+		{
+			return pendingMetaDataBatch;
+		}
+	}
+
+	/**
+	 * Loads the {@link Task}s of the given {@link PendingLoad}s and completes
+	 * the loads.
+	 * 
+	 * @param pendingLoads A {@code List} of {@code PendingLoad}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 */
+	private void load(List<PendingLoad> pendingLoads, boolean loadCompletely)
+	{
+		int batchSize = Math.max(1, dataManager.getMaxTaskRequestSize());
+
+		List<TaskID> taskIDs = new ArrayList<TaskID>(pendingLoads.size());
+
+		for(PendingLoad pendingLoad : pendingLoads)
+		{
+			taskIDs.add(pendingLoad.taskID);
+		}
+
+		try
+		{
+			LinkedHashMap<TaskID, Task> tasks = dataManager.getDataFactory().getTasksByIDs(taskIDs, loadCompletely);
+
+			batchRequests.addAndGet((taskIDs.size() + batchSize - 1) / batchSize);
+			batchedTasks.addAndGet(taskIDs.size());
+
+			for(PendingLoad pendingLoad : pendingLoads)
+			{
+				complete(new LoadKey(pendingLoad.taskID, loadCompletely), pendingLoad.load, tasks.get(pendingLoad.taskID), null);
+			}
+		}
+		catch(RuntimeException e)
+		{
+			if(Thread.currentThread().isInterrupted())
+			{
+				redispatch(pendingLoads, loadCompletely);
+			}
+			else
+			{
+				for(PendingLoad pendingLoad : pendingLoads)
+				{
+					complete(new LoadKey(pendingLoad.taskID, loadCompletely), pendingLoad.load, null, e);
+				}
+			}
+		}
+		catch(Error e)
+		{
+			for(PendingLoad pendingLoad : pendingLoads)
+			{
+				complete(new LoadKey(pendingLoad.taskID, loadCompletely), pendingLoad.load, null, e);
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Loads the {@link Task}s of the given {@link PendingLoad}s with the
+	 * background executor. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Is used if the owning {@link Thread} of the loads has
+	 * been interrupted (e.g. by the cancellation of an asynchronous
+	 * operation), because the interruption concerns only the owning
+	 * {@code Thread} and must not fail the requests which wait for the same
+	 * loads.
+	 * 
+	 * @param pendingLoads A {@code List} of {@code PendingLoad}s
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 */
+	private void redispatch(final List<PendingLoad> pendingLoads, final boolean loadCompletely)
+	{
+		try
+		{
+			dataManager.getConcurrencyManager().getBackgroundExecutor().execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					load(pendingLoads, loadCompletely);
+				}
+			});
+		}
+		catch(RuntimeException e)
+		{
+			for(PendingLoad pendingLoad : pendingLoads)
+			{
+				complete(new LoadKey(pendingLoad.taskID, loadCompletely), pendingLoad.load, null, e);
+			}
+		}
+	}
+
+	/**
+	 * Completes the given load and removes it from the outstanding loads. If
+	 * the load has not been invalidated, the loaded {@link Task} is put in the
+	 * {@code Cache}. If the load has already been completed, the invocation
+	 * has no effect.
+	 * 
+	 * @param loadKey The {@code LoadKey}
+	 * @param load The load
+	 * @param task The loaded {@code Task} or {@code null}
+	 * @param failure The failure or {@code null}
+	 */
+	private void complete(LoadKey loadKey, AsyncResult<Task> load, Task task, Throwable failure)
+	{
+		try
+		{
+			synchronized(invalidationLock)
+			{
+				if(inFlightLoads.remove(loadKey, load) && task != null)
+				{
+					dataManager.putTasksIntoCache(Collections.singletonList(task));
+				}
+			}
+		}
+		finally
+		{
+			if(failure != null)
+			{
+				load.setFailure(failure);
+			}
+			else
+			{
+				load.setResult(task);
+			}
+		}
+	}
+
+	/**
+	 * A {@code PendingBatch} collects the {@link PendingLoad}s of one load level
+	 * until the collection window has elapsed or a batch request is full.
+	 */
+	private final class PendingBatch implements Runnable
+	{
+		private final boolean loadCompletely;
+
+		private final List<PendingLoad> pendingLoads = new ArrayList<PendingLoad>();
+		private boolean scheduled = false;
+
+		/**
+		 * Constructs a {@link PendingBatch}.
+		 * 
+		 * @param loadCompletely {@code true} if the complete {@code Task}s
+		 *        should be loaded; otherwise {@code false}
+		 */
+		PendingBatch(boolean loadCompletely)
+		{
+			this.loadCompletely = loadCompletely;
+		}
+
+		/**
+		 * Adds the given {@link PendingLoad}s to the batch. Full batch requests
+		 * are dispatched immediately; the rest is dispatched when the
+		 * collection window has elapsed.
+		 * 
+		 * @param newPendingLoads A {@code List} of {@code PendingLoad}s
+		 */
+		synchronized void add(List<PendingLoad> newPendingLoads)
+		{
+			int batchSize = Math.max(1, dataManager.getMaxTaskRequestSize());
+
+			pendingLoads.addAll(newPendingLoads);
+
+			while(pendingLoads.size() >= batchSize)
+			{
+				List<PendingLoad> batch = pendingLoads.subList(0, batchSize);
+
+				dispatch(new ArrayList<PendingLoad>(batch));
+
+				batch.clear();
+			}
+
+			if(pendingLoads.size() > 0 && !scheduled)
+			{
+				scheduled = true;
+
+				dataManager.getConcurrencyManager().getTimerExecutor().schedule(this, collectionWindow, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			List<PendingLoad> batch;
+
+			synchronized(this)
+			{
+				scheduled = false;
+
+				if(pendingLoads.size() == 0)
+				{
+					return;
+				}
+
+				batch = new ArrayList<PendingLoad>(pendingLoads);
+
+				pendingLoads.clear();
+			}
+
+			dispatch(batch);
+		}
+
+		/**
+		 * Loads the given batch with the batch executor.
+		 * 
+		 * @param batch A {@code List} of at most
+		 *        {@link DataManager#getMaxTaskRequestSize()}
+		 *        {@code PendingLoad}s
+		 */
+		private void dispatch(final List<PendingLoad> batch)
+		{
+			try
+			{
+				dataManager.getConcurrencyManager().getBatchExecutor().execute(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						load(batch, loadCompletely);
+					}
+				});
+			}
+			catch(RuntimeException e)
+			{
+				for(PendingLoad pendingLoad : batch)
+				{
+					complete(new LoadKey(pendingLoad.taskID, loadCompletely), pendingLoad.load, null, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A {@code PendingLoad} is the registered load of one {@link Task} which
+	 * has not been completed yet.
+	 */
+	private static final class PendingLoad
+	{
+		private final TaskID taskID;
+		private final AsyncResult<Task> load;
+
+		/**
+		 * Constructs a {@link PendingLoad}.
+		 * 
+		 * @param taskID The {@code TaskID}
+		 * @param load The registered load
+		 */
+		PendingLoad(TaskID taskID, AsyncResult<Task> load)
+		{
+			this.taskID = taskID;
+			this.load = load;
+		}
+	}
+
+	/**
+	 * A {@code LoadKey} identifies the load of one {@link Task} on one load
+	 * level.
+	 */
+	private static final class LoadKey
+	{
+		private final TaskID taskID;
+		private final boolean loadCompletely;
+
+		/**
+		 * Constructs a {@link LoadKey}.
+		 * 
+		 * @param taskID The {@code TaskID}
+		 * @param loadCompletely {@code true} for the complete load level;
+		 *        {@code false} for the meta data load level
+		 */
+		LoadKey(TaskID taskID, boolean loadCompletely)
+		{
+			this.taskID = taskID;
+			this.loadCompletely = loadCompletely;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return 31 * taskID.hashCode() + (loadCompletely ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			if(this == object)
+			{
+				return true;
+			}
+			else if(!(object instanceof LoadKey))
+			{
+				return false;
+			}
+
+			LoadKey other = (LoadKey) object;
+
+			return loadCompletely == other.loadCompletely && taskID.equals(other.taskID);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package org.diretto.api.client.external.task;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+
+import org.diretto.api.client.external.task.entities.Task;
+import org.diretto.api.client.external.task.entities.TaskID;
+
+/**
+ * A {@code TaskPage} holds the {@link Task}s of one result page together with
+ * the {@link URL} of the following result page.
+ * 
+ * @author Tobias Schlecht
+ */
+final class TaskPage
+{
+	private final LinkedHashMap<TaskID, Task> tasks;
+	private final URL nextPageURL;
+
+	/**
+	 * Constructs a {@link TaskPage}.
+	 * 
+	 * @param tasks The {@code Task}s of the page
+	 * @param nextPageURL The {@code URL} of the next page or {@code null} if
+	 *        this is the last page
+	 */
+	TaskPage(LinkedHashMap<TaskID, Task> tasks, URL nextPageURL)
+	{
+		this.tasks = tasks;
+		this.nextPageURL = nextPageURL;
+	}
+
+	/**
+	 * Returns the {@link Task}s of the page.
+	 * 
+	 * @return The {@code Task}s of the page
+	 */
+	LinkedHashMap<TaskID, Task> getTasks()
+	{
+		return tasks;
+	}
+
+	/**
+	 * Returns the {@link URL} of the next page or {@code null} if this is the
+	 * last page.
+	 * 
+	 * @return The {@code URL} of the next page
+	 */
+	URL getNextPageURL()
+	{
+		return nextPageURL;
+	}
+}
@@ -2,6 +2,10 @@ package org.diretto.api.client.external.task;
 
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.diretto.api.client.JavaClient;
 import org.diretto.api.client.JavaClientImpl;
@@ -28,6 +32,8 @@ import org.restlet.resource.ClientResource;
  */
 public final class TaskServiceImpl extends AbstractService implements TaskService
 {
+	private static final Logger LOGGER = Logger.getLogger(TaskServiceImpl.class.getName());
+
 	private final Client restletClient;
 	private final int maxTaskRequestSize;
 
@@ -51,9 +57,12 @@ public final class TaskServiceImpl extends AbstractService implements TaskServic
 		ClientResource clientResource = new ClientResource(serviceURL.toExternalForm());
 		clientResource.setNext(restletClient);
 		TaskServiceInstanceDataResource taskServiceInstanceDataResource = clientResource.get(TaskServiceInstanceDataResource.class);
-		
-		System.out.println("[TaskService TaskServiceImpl] " + serviceURL.toExternalForm());
-		
+
+		if(LOGGER.isLoggable(Level.FINE))
+		{
+			LOGGER.fine("[TaskService TaskServiceImpl] " + serviceURL.toExternalForm());
+		}
+
 		maxTaskRequestSize = taskServiceInstanceDataResource.getParameters().getBatchLimit();
 	}
 
@@ -81,7 +90,7 @@ public final class TaskServiceImpl extends AbstractService implements TaskServic
 	 * 
 	 * @return The corresponding {@code DataManager}
 	 */
-	private DataManager getDataManager()
+	private synchronized DataManager getDataManager()
 	{
 		if(dataManager == null)
 		{
@@ -91,6 +100,12 @@ public final class TaskServiceImpl extends AbstractService implements TaskServic
 		return dataManager;
 	}
 
+	@Override
+	public void addMetricsListener(MetricsListener metricsListener)
+	{
+		getDataManager().addMetricsListener(metricsListener);
+	}
+
 	@Override
 	public TaskID createTask(UserSession userSession, String title, String description, BoundingBox boundingBox, TimeRange timeRange)
 	{
@@ -115,12 +130,54 @@ public final class TaskServiceImpl extends AbstractService implements TaskServic
 		return getDataManager().getAllTasks(loadCompletely);
 	}
 
+	@Override
+	public TaskStream getAllTasksAsStream(boolean loadCompletely, boolean populateCache)
+	{
+		return getDataManager().getAllTasksAsStream(loadCompletely, populateCache);
+	}
+
+	@Override
+	public AsyncTaskService getAsyncTaskService(Executor executor)
+	{
+		return getDataManager().getAsyncTaskService(executor);
+	}
+
+	@Override
+	public int getLastCacheSynchronizationChangeCount()
+	{
+		return getDataManager().getLastCacheSynchronizationChangeCount();
+	}
+
+	@Override
+	public DateTime getLastCacheSynchronizationTime()
+	{
+		return getDataManager().getLastCacheSynchronizationTime();
+	}
+
+	@Override
+	public LoadStatistics getLoadStatistics()
+	{
+		return getDataManager().getLoadStatistics();
+	}
+
 	@Override
 	public int getMaxTaskRequestSize()
 	{
 		return getDataManager().getMaxTaskRequestSize();
 	}
 
+	@Override
+	public ResultSet<TaskID, Task> getNearestTasks(double locationLatitude, double locationLongitude, int maxResults, boolean loadCompletely)
+	{
+		return getDataManager().getNearestTasks(locationLatitude, locationLongitude, maxResults, loadCompletely);
+	}
+
+	@Override
+	public Map<String, RequestStatistics> getRequestStatistics()
+	{
+		return getDataManager().getRequestStatistics();
+	}
+
 	@Override
 	public Task getTask(TaskID taskID)
 	{
@@ -181,6 +238,12 @@ public final class TaskServiceImpl extends AbstractService implements TaskServic
 		return getDataManager().getTasksAfter(time, loadCompletely);
 	}
 
+	@Override
+	public TaskStream getTasksAfterAsStream(DateTime time, boolean loadCompletely, boolean populateCache)
+	{
+		return getDataManager().getTasksAfterAsStream(time, loadCompletely, populateCache);
+	}
+
 	@Override
 	public ResultSet<TaskID, Task> getTasksByIDs(List<TaskID> taskIDs)
 	{
@@ -198,4 +261,34 @@ public final class TaskServiceImpl extends AbstractService implements TaskServic
 	{
 		return getDataManager().isCacheActivated();
 	}
+
+	@Override
+	public boolean isTaskIndexComplete()
+	{
+		return getDataManager().isTaskIndexComplete();
+	}
+
+	@Override
+	public void removeMetricsListener(MetricsListener metricsListener)
+	{
+		getDataManager().removeMetricsListener(metricsListener);
+	}
+
+	@Override
+	public void stopCacheSynchronization()
+	{
+		getDataManager().stopCacheSynchronization();
+	}
+
+	@Override
+	public int synchronizeCache()
+	{
+		return getDataManager().synchronizeCache();
+	}
+
+	@Override
+	public int synchronizeCacheCompletely()
+	{
+		return getDataManager().synchronizeCacheCompletely();
+	}
 }
@@ -0,0 +1,30 @@
+package org.diretto.api.client.external.task;
+
+import java.util.Iterator;
+
+import org.diretto.api.client.external.task.entities.Task;
+
+/**
+ * This interface represents a {@code TaskStream}. <br/><br/>
+ * 
+ * A {@code TaskStream} iterates over the {@link Task}s of a result, which is
+ * loaded page by page while iterating. Only a bounded number of pages is
+ * held in memory at any time, regardless of the total size of the result.
+ * <br/><br/>
+ * 
+ * <i>Annotation:</i> If the iteration is terminated before the end of the
+ * result has been reached, the {@code TaskStream} should be closed, so that
+ * pages which are loaded in the background are discarded immediately.
+ * 
+ * @author Tobias Schlecht
+ */
+public interface TaskStream extends Iterator<Task>
+{
+	/**
+	 * Closes the {@code TaskStream} and stops the loading of further pages.
+	 * Afterwards {@link #hasNext()} returns {@code false}. If the
+	 * {@code TaskStream} has already been closed, the invocation has no
+	 * effect.
+	 */
+	void close();
+}
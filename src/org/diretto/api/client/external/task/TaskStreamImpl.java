@@ -0,0 +1,383 @@
+package org.diretto.api.client.external.task;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.external.task.entities.Task;
+
+/**
+ * This class is the implementation class of the {@link TaskStream}
+ * interface. <br/><br/>
+ * 
+ * <i>Annotation:</i> If more than one resident page is configured, the
+ * following pages are loaded in the background into a bounded queue, so that
+ * at most the configured number of pages is held in memory at any time.
+ * 
+ * @author Tobias Schlecht
+ */
+final class TaskStreamImpl implements TaskStream
+{
+	private static final long OFFER_TIMEOUT_SECONDS = 1;
+
+	private final DataManagerImpl dataManager;
+	private final boolean loadCompletely;
+	private final boolean populateCache;
+
+	private final BlockingQueue<QueueItem> queue;
+	private final Future<?> producer;
+
+	private Callable<TaskPage> firstPageLoader;
+	private URL nextPageURL = null;
+
+	private Iterator<Task> currentPage = Collections.<Task> emptyList().iterator();
+	private volatile boolean closed = false;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory method</i>
+	 * {@link #getInstance(DataManagerImpl, Callable, boolean, boolean)}
+	 * returns the instances of the class.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @param firstPageLoader The loader of the first page
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @param populateCache {@code true} if the loaded {@code Task}s should be
+	 *        put in the {@code Cache}; otherwise {@code false}
+	 * @param maxResidentPages The maximum number of pages held in memory
+	 */
+	private TaskStreamImpl(DataManagerImpl dataManager, Callable<TaskPage> firstPageLoader, boolean loadCompletely, boolean populateCache, int maxResidentPages)
+	{
+		this.dataManager = dataManager;
+		this.firstPageLoader = firstPageLoader;
+		this.loadCompletely = loadCompletely;
+		this.populateCache = populateCache;
+
+		if(maxResidentPages <= 1)
+		{
+			queue = null;
+			producer = null;
+		}
+		else
+		{
+			// One page is iterated and one page is held by the producer while
+			// it waits for space in the queue.
+			if(maxResidentPages == 2)
+			{
+				queue = new SynchronousQueue<QueueItem>();
+			}
+			else
+			{
+				queue = new ArrayBlockingQueue<QueueItem>(maxResidentPages - 2);
+			}
+
+			producer = dataManager.getConcurrencyManager().getBackgroundExecutor().submit(new PageProducer(this));
+
+			this.firstPageLoader = null;
+		}
+	}
+
+	/**
+	 * Returns a {@link TaskStream} instance for the corresponding
+	 * {@link DataManager}.
+	 * 
+	 * @param dataManager The corresponding {@code DataManager}
+	 * @param firstPageLoader The loader of the first page
+	 * @param loadCompletely {@code true} if the complete {@code Task}s should
+	 *        be loaded; otherwise {@code false}
+	 * @param populateCache {@code true} if the loaded {@code Task}s should be
+	 *        put in the {@code Cache}; otherwise {@code false}
+	 * @return A {@code TaskStream} instance
+	 */
+	static TaskStream getInstance(DataManagerImpl dataManager, Callable<TaskPage> firstPageLoader, boolean loadCompletely, boolean populateCache)
+	{
+		XMLConfiguration xmlConfiguration = TaskServiceID.INSTANCE.getXMLConfiguration();
+
+		int maxResidentPages = xmlConfiguration.getInt("streaming/max-resident-pages", 2);
+
+		return new TaskStreamImpl(dataManager, firstPageLoader, loadCompletely, populateCache, maxResidentPages);
+	}
+
+	@Override
+	public synchronized boolean hasNext()
+	{
+		if(closed)
+		{
+			return false;
+		}
+
+		while(!currentPage.hasNext())
+		{
+			TaskPage taskPage = nextPage();
+
+			if(taskPage == null)
+			{
+				close();
+
+				return false;
+			}
+
+			currentPage = taskPage.getTasks().values().iterator();
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized Task next()
+	{
+		if(!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+
+		return currentPage.next();
+	}
+
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close()
+	{
+		if(closed)
+		{
+			return;
+		}
+
+		closed = true;
+
+		if(producer != null)
+		{
+			producer.cancel(true);
+
+			// Wakes up a consumer which is waiting for the next page.
+			queue.clear();
+			queue.offer(new QueueItem(null, null));
+		}
+	}
+
+	/**
+	 * Returns the next page or {@code null} if there are no further pages.
+	 * 
+	 * @return The next {@code TaskPage} or {@code null}
+	 */
+	private TaskPage nextPage()
+	{
+		if(closed)
+		{
+			return null;
+		}
+
+		if(queue == null)
+		{
+			TaskPage taskPage;
+
+			if(firstPageLoader != null)
+			{
+				taskPage = loadFirstPage(firstPageLoader);
+				firstPageLoader = null;
+			}
+			else if(nextPageURL != null)
+			{
+				taskPage = dataManager.getDataFactory().getPage(nextPageURL, false, loadCompletely);
+			}
+			else
+			{
+				return null;
+			}
+
+			nextPageURL = taskPage.getNextPageURL();
+
+			if(populateCache)
+			{
+				dataManager.putTasksIntoCache(taskPage.getTasks().values());
+			}
+
+			return taskPage;
+		}
+
+		QueueItem queueItem;
+
+		try
+		{
+			queueItem = queue.take();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			close();
+
+			return null;
+		}
+
+		if(queueItem.failure != null)
+		{
+			close();
+
+			throw queueItem.failure;
+		}
+
+		return queueItem.taskPage;
+	}
+
+	/**
+	 * Loads the first page with the given loader.
+	 * 
+	 * @param firstPageLoader The loader of the first page
+	 * @return The first {@code TaskPage}
+	 */
+	private static TaskPage loadFirstPage(Callable<TaskPage> firstPageLoader)
+	{
+		try
+		{
+			return firstPageLoader.call();
+		}
+		catch(RuntimeException e)
+		{
+			throw e;
+		}
+		catch(Exception e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * A {@code QueueItem} is either a page, a failure or the end of the
+	 * result (if both are {@code null}).
+	 */
+	private static final class QueueItem
+	{
+		private final TaskPage taskPage;
+		private final RuntimeException failure;
+
+		/**
+		 * Constructs a {@link QueueItem}.
+		 * 
+		 * @param taskPage The {@code TaskPage} or {@code null}
+		 * @param failure The failure or {@code null}
+		 */
+		QueueItem(TaskPage taskPage, RuntimeException failure)
+		{
+			this.taskPage = taskPage;
+			this.failure = failure;
+		}
+	}
+
+	/**
+	 * The {@code PageProducer} loads the pages one after another and hands them
+	 * over to the queue of the {@link TaskStream}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The {@code PageProducer} only holds a weak reference to
+	 * the {@code TaskStream}, so that it stops as soon as an abandoned
+	 * {@code TaskStream} has been garbage collected.
+	 */
+	private static final class PageProducer implements Runnable
+	{
+		private final DataManagerImpl dataManager;
+		private final boolean loadCompletely;
+		private final boolean populateCache;
+		private final Callable<TaskPage> firstPageLoader;
+		private final BlockingQueue<QueueItem> queue;
+		private final WeakReference<TaskStreamImpl> taskStream;
+
+		/**
+		 * Constructs a {@link PageProducer}.
+		 * 
+		 * @param taskStream The corresponding {@code TaskStream}
+		 */
+		PageProducer(TaskStreamImpl taskStream)
+		{
+			dataManager = taskStream.dataManager;
+			loadCompletely = taskStream.loadCompletely;
+			populateCache = taskStream.populateCache;
+			firstPageLoader = taskStream.firstPageLoader;
+			queue = taskStream.queue;
+
+			this.taskStream = new WeakReference<TaskStreamImpl>(taskStream);
+		}
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				TaskPage taskPage = loadFirstPage(firstPageLoader);
+
+				while(true)
+				{
+					if(populateCache)
+					{
+						dataManager.putTasksIntoCache(taskPage.getTasks().values());
+					}
+
+					if(!offer(new QueueItem(taskPage, null)))
+					{
+						return;
+					}
+
+					if(taskPage.getNextPageURL() == null)
+					{
+						break;
+					}
+
+					taskPage = dataManager.getDataFactory().getPage(taskPage.getNextPageURL(), false, loadCompletely);
+				}
+
+				offer(new QueueItem(null, null));
+			}
+			catch(InterruptedException e)
+			{
+				return;
+			}
+			catch(RuntimeException e)
+			{
+				try
+				{
+					offer(new QueueItem(null, e));
+				}
+				catch(InterruptedException ie)
+				{
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Hands the given item over to the queue. Waits until there is space in
+		 * the queue or the {@code TaskStream} has been abandoned.
+		 * 
+		 * @param queueItem The {@code QueueItem}
+		 * @return {@code true} if the item has been handed over; {@code false}
+		 *         if the {@code TaskStream} has been abandoned
+		 * @throws InterruptedException
+		 */
+		private boolean offer(QueueItem queueItem) throws InterruptedException
+		{
+			while(!queue.offer(queueItem, OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+			{
+				if(taskStream.get() == null)
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package org.diretto.api.client.external.task.entities;
 
+import org.diretto.api.client.base.characteristic.Cachable;
 import org.diretto.api.client.base.characteristic.VoteManager;
 import org.diretto.api.client.base.data.BoundingBox;
 import org.diretto.api.client.base.data.Builder;
@@ -59,6 +60,37 @@ public final class TaskBuilder implements Builder<Task>
 		this.completelyLoaded = completelyLoaded;
 	}
 
+	/**
+	 * Constructs a {@link TaskBuilder} object which is initialized with the
+	 * data of the given {@link Task}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The sub elements are only taken over if the given
+	 * {@code Task} has been completely loaded.
+	 * 
+	 * @param task The {@code Task}
+	 * @param dataManager The {@code DataManager}
+	 * @param voteManager The {@code VoteManager}
+	 */
+	public TaskBuilder(Task task, DataManagerImpl dataManager, VoteManager voteManager)
+	{
+		this(task.getID(), dataManager, voteManager, ((Cachable) task).isCompletelyLoaded());
+
+		title = task.getTitle();
+		description = task.getDescription();
+		creationTime = task.getCreationTime();
+		creator = task.getCreator();
+		votes = task.getVotes();
+		relevantTimeRange = task.getRelevantTimeRange();
+		relevantArea = task.getRelevantArea();
+
+		if(completelyLoaded)
+		{
+			submissions = task.getSubmissions();
+			comments = task.getComments();
+			tags = task.getTags();
+		}
+	}
+
 	/**
 	 * Sets the title.
 	 * 
@@ -31,6 +31,7 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 
 	private final boolean completelyLoaded;
 	private final LoadType loadType;
+	private final long loadTime;
 
 	private final String title;
 	private final String description;
@@ -56,6 +57,8 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 		dataManager = builder.getDataManager();
 		voteManager = builder.getVoteManager();
 
+		loadTime = System.nanoTime();
+
 		completelyLoaded = builder.getCompletelyLoaded();
 
 		if(completelyLoaded)
@@ -176,6 +179,18 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 			}
 		}
 
+		CachedTask cachedTask = getCompleteCachedTask();
+
+		if(cachedTask != null)
+		{
+			Tag tag = cachedTask.task.getTagFromLatestData(tagID);
+
+			if(tag != null || cachedTask.latestData)
+			{
+				return tag;
+			}
+		}
+
 		return ((TaskImpl) dataManager.getTask(getID(), true, true)).getTagFromLatestData(tagID);
 	}
 
@@ -203,7 +218,7 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 		}
 		else
 		{
-			return dataManager.getTask(getID(), true, true).getTags();
+			return dataManager.getTask(getID(), true, false).getTags();
 		}
 	}
 
@@ -226,6 +241,18 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 			}
 		}
 
+		CachedTask cachedTask = getCompleteCachedTask();
+
+		if(cachedTask != null)
+		{
+			Submission submission = cachedTask.task.getSubmissionFromLatestData(submissionID);
+
+			if(submission != null || cachedTask.latestData)
+			{
+				return submission;
+			}
+		}
+
 		return ((TaskImpl) dataManager.getTask(getID(), true, true)).getSubmissionFromLatestData(submissionID);
 	}
 
@@ -254,7 +281,7 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 		}
 		else
 		{
-			return dataManager.getTask(getID(), true, true).getSubmissions();
+			return dataManager.getTask(getID(), true, false).getSubmissions();
 		}
 	}
 
@@ -277,6 +304,18 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 			}
 		}
 
+		CachedTask cachedTask = getCompleteCachedTask();
+
+		if(cachedTask != null)
+		{
+			Comment comment = cachedTask.task.getCommentFromLatestData(commentID);
+
+			if(comment != null || cachedTask.latestData)
+			{
+				return comment;
+			}
+		}
+
 		return ((TaskImpl) dataManager.getTask(getID(), true, true)).getCommentFromLatestData(commentID);
 	}
 
@@ -305,7 +344,73 @@ final class TaskImpl extends AbstractEntity<TaskID> implements Task, Cachable
 		}
 		else
 		{
-			return dataManager.getTask(getID(), true, true).getComments();
+			return dataManager.getTask(getID(), true, false).getComments();
+		}
+	}
+
+	/**
+	 * Determines if this object has been loaded from the API since the given
+	 * point in time.
+	 * 
+	 * @param time The point in time as value of {@link System#nanoTime()}
+	 * @return {@code true} if this object has been loaded since the given
+	 *         point in time; otherwise {@code false}
+	 */
+	private boolean isLoadedSince(long time)
+	{
+		return loadTime - time >= 0;
+	}
+
+	/**
+	 * Returns the completely loaded copy of this {@link Task} from the
+	 * {@code Cache}, or {@code null} if the {@code Cache} is not activated or
+	 * this object is the cached copy itself. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> If there is no cached copy, the {@code Task} is
+	 * loaded and the returned copy represents the latest data from the API.
+	 * 
+	 * @return The {@code CachedTask} or {@code null}
+	 */
+	private CachedTask getCompleteCachedTask()
+	{
+		if(!dataManager.isCacheActivated())
+		{
+			return null;
+		}
+
+		long lookupTime = System.nanoTime();
+
+		TaskImpl cachedTask = (TaskImpl) dataManager.getTask(getID(), true, false);
+
+		if(cachedTask == this)
+		{
+			return null;
+		}
+
+		return new CachedTask(cachedTask, cachedTask.isLoadedSince(lookupTime));
+	}
+
+	/**
+	 * A {@code CachedTask} is the completely loaded copy of a {@link Task}
+	 * from the {@code Cache} together with its freshness.
+	 */
+	private static final class CachedTask
+	{
+		private final TaskImpl task;
+		private final boolean latestData;
+
+		/**
+		 * Constructs a {@link CachedTask}.
+		 * 
+		 * @param task The cached {@code TaskImpl}
+		 * @param latestData {@code true} if the {@code TaskImpl} has just been
+		 *        loaded and represents the latest data from the API; otherwise
+		 *        {@code false}
+		 */
+		CachedTask(TaskImpl task, boolean latestData)
+		{
+			this.task = task;
+			this.latestData = latestData;
 		}
 	}
 }